@@ -1,5 +1,11 @@
 import game.Game;
+import levels.LevelConverter;
+import utils.ResourceManifest;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Scanner;
 
 /**
@@ -8,47 +14,101 @@ import java.util.Scanner;
  **/
 public class Main {
 
+	/**
+	 * Starts the game. Level tools can be run instead by passing their name:
+	 * "format" reformats raw tile data into the level file layout,
+	 * "convert" turns level properties files into binary level files, and
+	 * "manifest" lists the resource folder so it can be found at runtime.
+	 *
+	 * @param args The tool to run followed by its arguments, or nothing to play.
+	 */
 	public static void main(String[] args) {
-		if(false) {
-			final String PREFIX = "--> ";
-			Scanner scanner = new Scanner(System.in);
-
-			// Offsets
-			System.out.println(PREFIX + " Please input the tile sheet offset below:");
-			int offset = scanner.nextInt() - 1; /* all indexes will be translated 1 index up (to be reverted down 1 index when loaded) */
-			if(offset < 0) {
-				System.out.println(PREFIX + "Offset must be greater than 0!");
-				return;
+		if(args.length == 0) {
+			new Game();
+			return;
+		}
+
+		switch (args[0]) {
+			case "format" -> format();
+			case "convert" -> convert(Arrays.copyOfRange(args, 1, args.length));
+			case "manifest" -> manifest(args.length > 1 ? args[1] : "res");
+			default -> System.out.println("Unknown tool '" + args[0] + "', expected 'format', 'convert' or 'manifest'.");
+		}
+	}
+
+	/**
+	 * Formats exported tile data into rows for a level file.
+	 */
+	private static void format() {
+		final String PREFIX = "--> ";
+		Scanner scanner = new Scanner(System.in);
+
+		// Offsets
+		System.out.println(PREFIX + " Please input the tile sheet offset below:");
+		int offset = scanner.nextInt() - 1; /* all indexes will be translated 1 index up (to be reverted down 1 index when loaded) */
+		if(offset < 0) {
+			System.out.println(PREFIX + "Offset must be greater than 0!");
+			return;
+		}
+		scanner.nextLine();
+
+		// Tiles
+		System.out.println(PREFIX + " Please input data to be formatted below:");
+		String data = scanner.nextLine();
+		String[] tilesIndex = data.split(",");
+		final int WIDTH = tilesIndex.length / Game.TILES_IN_HEIGHT;
+
+		System.out.println("--> There are " + tilesIndex.length + " tiles to format! (" + offset + ")");
+
+		// Format
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0, count = 1; i < tilesIndex.length; i++, count++) {
+			boolean outOfBounds = count > WIDTH;
+			if (outOfBounds) {
+				count = 1;
+				builder.deleteCharAt(builder.length() - 1);
+				builder.append(";");
 			}
-			scanner.nextLine();
-
-			// Tiles
-			System.out.println(PREFIX + " Please input data to be formatted below:");
-			String data = scanner.nextLine();
-			String[] tilesIndex = data.split(",");
-			final int WIDTH = tilesIndex.length / Game.TILES_IN_HEIGHT;
-
-			System.out.println("--> There are " + tilesIndex.length + " tiles to format! (" + offset + ")");
-
-			// Format
-			StringBuilder builder = new StringBuilder();
-			for (int i = 0, count = 1; i < tilesIndex.length; i++, count++) {
-				boolean outOfBounds = count > WIDTH;
-				if (outOfBounds) {
-					count = 1;
-					builder.deleteCharAt(builder.length() - 1);
-					builder.append(";");
-				}
-				int tileIndex = Integer.parseInt(tilesIndex[i].trim());
-				if(tileIndex > 0) tileIndex -= offset;
-				builder.append(tileIndex).append(",");
+			int tileIndex = Integer.parseInt(tilesIndex[i].trim());
+			if(tileIndex > 0) tileIndex -= offset;
+			builder.append(tileIndex).append(",");
+		}
+
+		// Send data
+		String s = builder.toString();
+		System.out.println("--> Complete!");
+		System.out.println(s.substring(0, s.length() - 1));
+		scanner.close();
+	}
+
+	/**
+	 * Converts level properties files into the binary level format.
+	 *
+	 * @param files The paths of the properties files.
+	 */
+	private static void convert(String[] files) {
+		for(String file : files) {
+			try {
+				Path source = Path.of(file);
+				Path target = LevelConverter.convert(source);
+				System.out.println("--> " + source + " (" + Files.size(source) + " bytes) -> " + target + " (" + Files.size(target) + " bytes)");
+			} catch (IOException e) {
+				e.printStackTrace();
 			}
+		}
+	}
 
-			// Send data
-			String s = builder.toString();
-			System.out.println("--> Complete!");
-			System.out.println(s.substring(0, s.length() - 1));
-			scanner.close();
-		} else new Game();
+	/**
+	 * Writes the resource manifest. Run it whenever resources are added or removed.
+	 *
+	 * @param root The path of the res folder.
+	 */
+	private static void manifest(String root) {
+		try {
+			Path target = ResourceManifest.generate(Path.of(root));
+			System.out.println("--> " + (Files.readAllLines(target).size() - 1) + " resources listed in " + target);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
 	}
 }
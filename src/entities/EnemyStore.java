@@ -0,0 +1,472 @@
+package entities;
+
+import game.Game;
+import game.states.Playing;
+import levels.Level;
+import sounds.Sound;
+import sprites.Animation;
+import sprites.Pose;
+import sprites.SpriteSheet;
+import sprites.SpriteSheets;
+import sprites.TextureAtlas;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public abstract class EnemyStore {
+
+	/* One kind of enemy kept as parallel arrays instead of objects, so updating thousands of them walks memory in order. */
+	private final static Pose[] POSES = Pose.values();
+	private final static int STATES = POSES.length;
+
+	protected final Playing playing;
+	protected final String name;
+
+	/* Shared by every enemy of this kind */
+	protected final double w, h;
+	private final int spriteWidth;
+	private final double xDrawOffset, yDrawOffset;
+	private final SpriteSheet[] sheets; /* by pose, null if the kind has no sprite for it */
+	protected final int maxHealth;
+	protected int attackDamage;
+	protected int attackPoseIndex;
+	protected int attackDistance, sightDistance;
+	protected boolean takesKnockback = true;
+
+	/* One slot per enemy */
+	protected int count;
+	protected double[] x, y, prevX, prevY, vx, vy;
+	protected int[] health, attackDelay, tileY, origin;
+	protected byte[] pose;
+	protected boolean[] inAir, moving, facingLeft, active;
+
+	/* Playback of every pose, like an Animation per pose, at slot * STATES + pose */
+	private int[] frame, delay;
+	private boolean[] completed;
+
+	/**
+	 * @param playing     The playing state.
+	 * @param name        The name of the enemy, which its sprites are found under.
+	 * @param w           The width of the hitbox, before scaling.
+	 * @param h           The height of the hitbox, before scaling.
+	 * @param spriteWidth The width and height of each frame.
+	 * @param xDrawOffset How far left of the hitbox the sprite starts, before scaling.
+	 * @param yDrawOffset How far above the hitbox the sprite starts, before scaling.
+	 * @param maxHealth   The health each enemy starts with.
+	 */
+	public EnemyStore(Playing playing, String name, double w, double h, int spriteWidth, double xDrawOffset, double yDrawOffset, int maxHealth) {
+		this.playing = playing;
+		this.name = name;
+		this.w = w * Game.SCALE;
+		this.h = h * Game.SCALE;
+		this.spriteWidth = spriteWidth;
+		this.xDrawOffset = xDrawOffset * Game.SCALE;
+		this.yDrawOffset = yDrawOffset * Game.SCALE;
+		this.maxHealth = maxHealth;
+
+		sheets = new SpriteSheet[STATES];
+		Set<Pose> poses = Entity.getPoses(name);
+		for(Pose p : poses)
+			sheets[p.ordinal()] = SpriteSheets.get(name + "/" + p.getName() + ".png", spriteWidth);
+		resize(64);
+	}
+
+	/**
+	 * Updates the enemies within a range of the level, the rest sleep.
+	 * Enemies that died are removed once the update is done.
+	 *
+	 * @param x0      The left edge of the area kept awake.
+	 * @param x1      The right edge of the area kept awake.
+	 * @param consume Told the spawn each dead enemy came from.
+	 */
+	public void update(double x0, double x1, IntConsumer consume) {
+		int dead = 0;
+		for(int i = 0; i < count; i++) {
+			if(!isAwake(i, x0, x1))continue;
+			if(!active[i]) {
+				dead++;
+				continue;
+			}
+			prevX[i] = x[i];
+			prevY[i] = y[i];
+			update(i);
+		}
+		if(dead == 0)return;
+		removeIf(i -> {
+			if(active[i])return false;
+			consume.accept(origin[i]);
+			return true;
+		});
+	}
+
+	/**
+	 * Updates a single enemy, like {@link Hostile#update()}.
+	 *
+	 * @param i The slot of the enemy.
+	 */
+	protected void update(int i) {
+		moving[i] = false;
+		if(isDying(i) && completed[i * STATES + pose[i]]) active[i] = false;
+		else if(isIdling(i)) setPose(i, Pose.IDLE);
+
+		if(inAir[i]) {
+			move(i);
+			tileY[i] = (int) (y[i] / Game.TILES_SIZE);
+		}
+		if(attackDelay[i] > 0)
+			attackDelay[i]--;
+	}
+
+	/**
+	 * Advances the animations of the enemies within a range by one tick.
+	 *
+	 * @param x0 The left edge of the range.
+	 * @param x1 The right edge of the range.
+	 */
+	public void updateAnimations(double x0, double x1) {
+		for(int i = 0; i < count; i++) {
+			if(!active[i] || !isAwake(i, x0, x1))continue;
+			int p = pose[i];
+			if(sheets[p] == null)continue;
+			if(completed[i * STATES + p] && !POSES[p].isRepeated())
+				pose[i] = (byte) (moving[i] ? Pose.RUN : inAir[i] ? Pose.JUMP : Pose.IDLE).ordinal();
+			advance(i * STATES + p, sheets[p], POSES[p]); /* the pose that finished plays out its last tick */
+		}
+	}
+
+	/**
+	 * Draws the enemies within a range.
+	 *
+	 * @param g  The graphics context.
+	 * @param x0 The left edge of the range.
+	 * @param x1 The right edge of the range.
+	 */
+	public void draw(Graphics g, double x0, double x1) {
+		Level level = getLevel();
+		int lvlOffset = level.getRenderOffsetX();
+		double alpha = playing.getInterpolation();
+		final int SIZE = (int) (spriteWidth * Game.SCALE);
+		for(int i = 0; i < count; i++) {
+			if(!active[i] || !isAwake(i, x0, x1))continue;
+			int p = pose[i];
+			if(sheets[p] == null)continue;
+			int sprite = sheets[p].isLoaded() ? sheets[p].getFrame(frame[i * STATES + p]) : TextureAtlas.NONE;
+			int px = (int) (prevX[i] + (x[i] - prevX[i]) * alpha - lvlOffset + (facingLeft[i] ? SIZE : 0));
+			int py = (int) (prevY[i] + (y[i] - prevY[i]) * alpha);
+			TextureAtlas.draw(g, sprite, (int) (px - xDrawOffset), (int) (py - yDrawOffset), facingLeft[i] ? -SIZE : SIZE, SIZE);
+		}
+	}
+
+	/**
+	 * Adds an enemy, standing where it spawned.
+	 *
+	 * @param px   The x-coordinate.
+	 * @param py   The y-coordinate.
+	 * @param cell The spawn it came from.
+	 */
+	public void add(double px, double py, int cell) {
+		if(count == x.length) resize(count * 2);
+		int i = count++;
+		x[i] = prevX[i] = px;
+		y[i] = prevY[i] = py;
+		vx[i] = vy[i] = 0;
+		health[i] = maxHealth;
+		attackDelay[i] = 0;
+		tileY[i] = 0;
+		origin[i] = cell;
+		pose[i] = (byte) Pose.IDLE.ordinal();
+		inAir[i] = moving[i] = active[i] = true;
+		facingLeft[i] = false;
+		for(int s = i * STATES; s < (i + 1) * STATES; s++)
+			resetAnimation(s);
+	}
+
+	/**
+	 * Removes every enemy that matches a condition, keeping the rest in order.
+	 *
+	 * @param filter Given the slot of each enemy.
+	 */
+	public void removeIf(IntPredicate filter) {
+		int kept = 0;
+		for(int i = 0; i < count; i++) {
+			if(filter.test(i))continue;
+			if(kept != i) copy(i, kept);
+			kept++;
+		}
+		count = kept;
+	}
+
+	/**
+	 * Removes every enemy.
+	 */
+	public void clear() {
+		count = 0;
+	}
+
+	/**
+	 * Damages an enemy, like {@link Entity#damage(int)}.
+	 *
+	 * @param i                  The slot of the enemy.
+	 * @param damage             The amount of damage to be taken.
+	 * @param attackerFacingLeft Which way the attacker faces, the enemy is knocked back that way.
+	 */
+	public void damage(int i, int damage, boolean attackerFacingLeft) {
+		health[i] = Math.max(0, Math.min(maxHealth, health[i] - damage));
+		if(health[i] <= 0)
+			setPose(i, Pose.DIE);
+		else {
+			setPose(i, Pose.HURT);
+			playing.getSoundManager().playSFX(Sound.HURT);
+		}
+
+		if(takesKnockback) {
+			int kb = (int) (2 * Game.SCALE);
+			vx[i] = attackerFacingLeft ? -kb * Game.SCALE : kb * Game.SCALE;
+			updateXPos(i);
+		}
+		if(isDying(i))
+			playing.getSoundManager().playSFX(Sound.DEATH);
+	}
+
+	/**
+	 * Lets the player's attack land on every enemy within its reach.
+	 *
+	 * @param player The player, who is attacking.
+	 */
+	public void takeHits(Player player) {
+		if(!player.isAttackFrame())return;
+		final double BX = player.getAttackBox().getX(), BY = player.getAttackBox().getY();
+		final double BW = player.getAttackBox().getWidth(), BH = player.getAttackBox().getHeight();
+		for(int i = 0; i < count; i++) {
+			if(!active[i] || !overlaps(i, BX, BY, BW, BH))continue;
+			if(isHurt(i) || isDying(i))continue;
+			System.out.println(player.getName() + " attacked " + name);
+			damage(i, player.getAttackDamage(), player.isFacingLeft());
+			playing.getSoundManager().playSFX(Sound.ATTACK);
+		}
+	}
+
+	/**
+	 * Attacks the player, like {@link Entity#attack(Entity)}.
+	 *
+	 * @param i      The slot of the enemy.
+	 * @param player The player.
+	 * @return True if the attack landed.
+	 */
+	protected boolean attack(int i, Player player) {
+		if(sheets[pose[i]] != null && frame[i * STATES + pose[i]] != attackPoseIndex)return false;
+		if(player.isHurt() || player.isDying())return false;
+
+		System.out.println(name + " attacked " + player.getName());
+		player.damage(attackDamage, facingLeft[i]);
+		attackDelay[i] = 60;
+		return true;
+	}
+
+	// Movement
+
+	/**
+	 * Moves an enemy by its velocity, like {@link Entity#move()}.
+	 */
+	protected void move(int i) {
+		if(!moving[i] && !inAir[i])return;
+		if(!inAir[i] && !isOnTile(i))
+			inAir[i] = true;
+		if(inAir[i])
+			updateYPos(i);
+		updateXPos(i);
+	}
+
+	private void updateXPos(int i) {
+		if(canMoveTo(i, x[i] + vx[i], y[i])) x[i] += vx[i];
+		else x[i] = Entity.snapToTile(x[i], vx[i], w);
+		vx[i] = 0;
+	}
+
+	private void updateYPos(int i) {
+		if(canMoveTo(i, x[i], y[i] + vy[i])) {
+			y[i] += vy[i];
+			vy[i] = Entity.fall(vy[i]);
+		} else {
+			y[i] = Entity.snapToTile(y[i], vy[i], h);
+			if(vy[i] > 0) {
+				inAir[i] = false;
+				vy[i] = 0;
+				if(!isAttacking(i)) setPose(i, Pose.RUN);
+			} else vy[i] = Entity.GRAVITY;
+		}
+	}
+
+	/**
+	 * Walks an enemy one way, like {@link Entity#goLT(double)}.
+	 *
+	 * @param i    The slot of the enemy.
+	 * @param left Should it walk left?
+	 * @param dx   How far it walks.
+	 */
+	protected void walk(int i, boolean left, double dx) {
+		vx[i] = (int) ((left ? -dx : dx) * Game.SCALE);
+		moving[i] = true;
+		if(!isAttacking(i)) setPose(i, inAir[i] ? Pose.JUMP : Pose.RUN);
+		facingLeft[i] = left;
+	}
+
+	protected boolean canMoveTo(int i, double px, double py) {
+		return Entity.canMoveTo(getLevel(), px, py, w, h);
+	}
+
+	protected boolean isOnTile(int i) {
+		return Entity.isOnTile(getLevel(), x[i], y[i], w, h);
+	}
+
+	// Poses
+
+	/**
+	 * Sets the pose of an enemy, like {@link Entity#setCurrentPose(Pose)}.
+	 */
+	protected void setPose(int i, Pose p) {
+		if(sheets[p.ordinal()] == null || isDying(i) || !active[i])return;
+		pose[i] = (byte) p.ordinal();
+		if(!p.isRepeated())
+			resetAnimation(i * STATES + p.ordinal());
+	}
+
+	protected boolean isIdling(int i) {
+		return !moving[i] && !inAir[i] && !isAttacking(i) && !isHurt(i) && !isDying(i);
+	}
+
+	protected boolean isAttacking(int i) {
+		return pose[i] == Pose.ATTACK.ordinal();
+	}
+
+	protected boolean isHurt(int i) {
+		return pose[i] == Pose.HURT.ordinal();
+	}
+
+	protected boolean isDying(int i) {
+		return pose[i] == Pose.DIE.ordinal();
+	}
+
+	private void resetAnimation(int s) {
+		frame[s] = 0;
+		delay[s] = POSES[s % STATES].getDuration();
+		completed[s] = false;
+	}
+
+	/**
+	 * Advances the playback of a pose, like {@link Animation#update()}.
+	 */
+	private void advance(int s, SpriteSheet sheet, Pose p) {
+		if(!sheet.isLoaded())return;
+		if(--delay[s] != 0)return;
+		int next = Animation.nextFrame(frame[s], sheet.getFrameCount(), p.isRepeated());
+		if(next <= frame[s]) completed[s] = true;
+		frame[s] = next;
+		delay[s] = p.getDuration();
+	}
+
+	// Queries
+
+	/**
+	 * Determines if an enemy has line of sight to the player, like {@link Hostile#isInSight(Player)}.
+	 * The distance is checked first, so enemies far from the player cost next to nothing.
+	 */
+	protected boolean isInSight(int i, Player player) {
+		if(Math.abs(player.getX() - x[i]) > sightDistance)return false;
+		if(player.getTileY() != tileY[i] && !(player.isJumping() && Math.abs(player.getTileY() - tileY[i]) < 4))return false;
+		if(getLevel().isComplete())return false;
+		return Hostile.isWalkable(getLevel(), (int) (x[i] / Game.TILES_SIZE), tileY[i], player) && player.isActive() && !player.isDying();
+	}
+
+	protected boolean isInAttackRange(int i, Player player) {
+		return Math.abs(player.getX() - x[i]) <= attackDistance && !getLevel().isComplete();
+	}
+
+	/**
+	 * @return True if the enemy spans part of the range, as a {@link utils.SpatialGrid} would find it.
+	 */
+	protected boolean isAwake(int i, double x0, double x1) {
+		return x[i] <= x1 && x[i] + w >= x0;
+	}
+
+	protected boolean overlaps(int i, double bx, double by, double bw, double bh) {
+		return x[i] <= bx + bw && x[i] + w >= bx && y[i] <= by + bh && y[i] + h >= by;
+	}
+
+	public Level getLevel() {
+		return playing.getLevelManager().getCurrentLevel();
+	}
+
+	public double getX(int i) {
+		return x[i];
+	}
+
+	/**
+	 * @param i The slot of the enemy.
+	 * @return The spawn it came from.
+	 */
+	public int getOrigin(int i) {
+		return origin[i];
+	}
+
+	/**
+	 * @return The number of enemies held, awake or not.
+	 */
+	public int size() {
+		return count;
+	}
+
+	// Storage
+
+	private void resize(int capacity) {
+		x = Arrays.copyOf(x == null ? new double[0] : x, capacity);
+		y = Arrays.copyOf(y == null ? new double[0] : y, capacity);
+		prevX = Arrays.copyOf(prevX == null ? new double[0] : prevX, capacity);
+		prevY = Arrays.copyOf(prevY == null ? new double[0] : prevY, capacity);
+		vx = Arrays.copyOf(vx == null ? new double[0] : vx, capacity);
+		vy = Arrays.copyOf(vy == null ? new double[0] : vy, capacity);
+		health = Arrays.copyOf(health == null ? new int[0] : health, capacity);
+		attackDelay = Arrays.copyOf(attackDelay == null ? new int[0] : attackDelay, capacity);
+		tileY = Arrays.copyOf(tileY == null ? new int[0] : tileY, capacity);
+		origin = Arrays.copyOf(origin == null ? new int[0] : origin, capacity);
+		pose = Arrays.copyOf(pose == null ? new byte[0] : pose, capacity);
+		inAir = Arrays.copyOf(inAir == null ? new boolean[0] : inAir, capacity);
+		moving = Arrays.copyOf(moving == null ? new boolean[0] : moving, capacity);
+		facingLeft = Arrays.copyOf(facingLeft == null ? new boolean[0] : facingLeft, capacity);
+		active = Arrays.copyOf(active == null ? new boolean[0] : active, capacity);
+		frame = Arrays.copyOf(frame == null ? new int[0] : frame, capacity * STATES);
+		delay = Arrays.copyOf(delay == null ? new int[0] : delay, capacity * STATES);
+		completed = Arrays.copyOf(completed == null ? new boolean[0] : completed, capacity * STATES);
+	}
+
+	/**
+	 * Moves an enemy from one slot to another.
+	 */
+	protected void copy(int from, int to) {
+		x[to] = x[from];
+		y[to] = y[from];
+		prevX[to] = prevX[from];
+		prevY[to] = prevY[from];
+		vx[to] = vx[from];
+		vy[to] = vy[from];
+		health[to] = health[from];
+		attackDelay[to] = attackDelay[from];
+		tileY[to] = tileY[from];
+		origin[to] = origin[from];
+		pose[to] = pose[from];
+		inAir[to] = inAir[from];
+		moving[to] = moving[from];
+		facingLeft[to] = facingLeft[from];
+		active[to] = active[from];
+		System.arraycopy(frame, from * STATES, frame, to * STATES, STATES);
+		System.arraycopy(delay, from * STATES, delay, to * STATES, STATES);
+		System.arraycopy(completed, from * STATES, completed, to * STATES, STATES);
+	}
+}
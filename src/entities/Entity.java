@@ -9,16 +9,11 @@ import sprites.Animation;
 import sprites.Pose;
 import utils.Hitbox;
 import utils.Location;
+import utils.ResourceManifest;
 
 import java.awt.*;
-import java.io.File;
-import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.URL;
-import java.nio.file.*;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Written by Nicholas Cercos
@@ -30,8 +25,8 @@ public abstract class Entity extends Hitbox {
 	protected final String name;
 
 	/* Physics */
-	private static final double GRAVITY = 0.15 * Game.SCALE;
-	private static final double MAX_FALL_VELOCITY = 3.0 * Game.SCALE;
+	static final double GRAVITY = 0.15 * Game.SCALE;
+	static final double MAX_FALL_VELOCITY = 3.0 * Game.SCALE;
 	protected double vx, vy;
 	protected boolean moving, inAir = true;
 
@@ -45,9 +40,11 @@ public abstract class Entity extends Hitbox {
 	protected boolean active;
 	protected int attackPoseIndex;
 	protected Entity attacker = null;
+	private int knockbackDirection; /* for attackers that are not entities of their own, 1 to the right and -1 to the left */
 	protected boolean takesKnockback = true;
 
 	/* Sprites & Animations */
+	private static final Map<String, Set<Pose>> POSES = new ConcurrentHashMap<>(); /* listed once per kind of entity */
 	private final Map<Pose, Animation> animations;
 	private final Set<Pose> poses;
 	protected Pose currentPose;
@@ -61,8 +58,8 @@ public abstract class Entity extends Hitbox {
 		this.name = name;
 		this.spriteWidth = spriteWidth;
 		this.maxHealth = maxHealth;
-		animations = new HashMap<>();
-		poses = new HashSet<>();
+		animations = new EnumMap<>(Pose.class);
+		poses = EnumSet.noneOf(Pose.class);
 		attackBox = new Hitbox(x, y, w, h);
 		attackPoseIndex = 0;
 		loadAllAnimations(spriteWidth);
@@ -75,21 +72,32 @@ public abstract class Entity extends Hitbox {
 	 * @param g The graphics context.
 	 */
 	public void draw(Graphics g) {
-		int lvlOffset = getLevel().getOffsetX();
+		int lvlOffset = getLevel().getRenderOffsetX();
 		super.draw(g, lvlOffset);
 		attackBox.draw(g, lvlOffset);
 
 		Animation animation = getCurrentAnimation();
 		if(!active || animation == null)return;
-		int px = (int)(x - lvlOffset + flipX);
+		double alpha = playing.getInterpolation();
+		int px = (int)(getRenderX(alpha) - lvlOffset + flipX);
+		int py = (int) getRenderY(alpha);
 		int width  = (int) ((spriteWidth * Game.SCALE) * flipW);
 		int height = (int)  (spriteWidth * Game.SCALE);
 
+		animation.draw(g, (int)(px - xDrawOffset), (int) (py - yDrawOffset), width, height);
+	}
+
+	/**
+	 * Advances the current animation by one tick. Called once all
+	 * entities have been updated, so combat sees the frame that was drawn.
+	 */
+	public void updateAnimation() {
+		Animation animation = getCurrentAnimation();
+		if(!active || animation == null)return;
+
 		if(animation.isCycleCompleted() && !currentPose.isRepeated())
 			currentPose = moving ? Pose.RUN : inAir ? Pose.JUMP : Pose.IDLE;
-
-		g.drawImage(animation.getCurrentImage(getLevel().getLevelManager().getPlaying()),
-				(int)(px - xDrawOffset), (int) (y - yDrawOffset), width, height, null);
+		animation.update();
 	}
 
 	/**
@@ -156,8 +164,7 @@ public abstract class Entity extends Hitbox {
 	private void updateYPos() {
 		if(canMoveTo(x, y + vy)) {
 			y += vy;
-			if(vy < MAX_FALL_VELOCITY)
-				vy += GRAVITY;
+			vy = fall(vy);
 		} else {
 			y = getYPosAboveOrUnderTile();
 			if(vy > 0) stopFalling();
@@ -169,22 +176,41 @@ public abstract class Entity extends Hitbox {
 	 * @return The x-coordinate closest to an adjacent tile, horizontally.
 	 */
 	protected double getXPosNextToTile() {
-		int tileXPos = getTileX() * Game.TILES_SIZE;
-		if(vx > 0) { /* moving to the right */
-			int xOffset = (int)(Game.TILES_SIZE - w);
-			return tileXPos + xOffset - 1;
-		} else return tileXPos;
+		return snapToTile(x, vx, w);
 	}
 
 	/**
 	 * @return The y-coordinate closest to an adjacent tile, vertically.
 	 */
 	private double getYPosAboveOrUnderTile() {
-		int tileYPos = getTileY() * Game.TILES_SIZE;
-		if(vy > 0) { /* falling */
-			int yOffset = (int)(Game.TILES_SIZE - h);
-			return tileYPos + yOffset - 1;
-		} else return tileYPos;
+		return snapToTile(y, vy, h);
+	}
+
+	/**
+	 * Finds where a box stops when it runs into a tile along one axis.
+	 * Shared with {@link EnemyStore}, which keeps its enemies as plain numbers.
+	 *
+	 * @param position The x or y-coordinate of the box.
+	 * @param velocity The speed it was moving at along that axis.
+	 * @param size     The width or height of the box.
+	 * @return The coordinate closest to the adjacent tile.
+	 */
+	static double snapToTile(double position, double velocity, double size) {
+		int tilePos = (int) (position / Game.TILES_SIZE) * Game.TILES_SIZE;
+		if(velocity > 0) { /* moving right or falling */
+			int offset = (int)(Game.TILES_SIZE - size);
+			return tilePos + offset - 1;
+		} else return tilePos;
+	}
+
+	/**
+	 * Speeds up a fall by one tick of gravity.
+	 *
+	 * @param vy The vertical speed.
+	 * @return The new vertical speed, no faster than the fall limit.
+	 */
+	static double fall(double vy) {
+		return vy < MAX_FALL_VELOCITY ? vy + GRAVITY : vy;
 	}
 
 	/**
@@ -289,10 +315,25 @@ public abstract class Entity extends Hitbox {
 	 * @return True if the move is possible, otherwise, false.
 	 */
 	public boolean canMoveTo(double x, double y) {
-		if(!getLevel().isSolid(x, y))
-			if(!getLevel().isSolid(x + w, y + h))
-				if(!getLevel().isSolid(x + w, y))
-					return !getLevel().isSolid(x, y + h);
+		return canMoveTo(getLevel(), x, y, w, h);
+	}
+
+	/**
+	 * Checks if a box fits at a location without any
+	 * of its corners inside a solid tile.
+	 *
+	 * @param level The level.
+	 * @param x     The x-coordinate of the box.
+	 * @param y     The y-coordinate of the box.
+	 * @param w     The width of the box.
+	 * @param h     The height of the box.
+	 * @return True if the move is possible, otherwise, false.
+	 */
+	static boolean canMoveTo(Level level, double x, double y, double w, double h) {
+		if(!level.isSolid(x, y))
+			if(!level.isSolid(x + w, y + h))
+				if(!level.isSolid(x + w, y))
+					return !level.isSolid(x, y + h);
 		return false;
 	}
 
@@ -303,8 +344,22 @@ public abstract class Entity extends Hitbox {
 	 * @return True if tile below is solid.
 	 */
 	public boolean isOnTile() {
-		if(!getLevel().isSolid(x, y + h + 1))
-			return getLevel().isSolid(x + w, y + h + 1);
+		return isOnTile(getLevel(), x, y, w, h);
+	}
+
+	/**
+	 * Determines if a box is standing on a solid tile.
+	 *
+	 * @param level The level.
+	 * @param x     The x-coordinate of the box.
+	 * @param y     The y-coordinate of the box.
+	 * @param w     The width of the box.
+	 * @param h     The height of the box.
+	 * @return True if tile below is solid.
+	 */
+	static boolean isOnTile(Level level, double x, double y, double w, double h) {
+		if(!level.isSolid(x, y + h + 1))
+			return level.isSolid(x + w, y + h + 1);
 		return true;
 	}
 
@@ -325,51 +380,41 @@ public abstract class Entity extends Hitbox {
 	// Animations
 
 	/**
-	 * Loads all animations within the resource directory under
-	 * the entity's given name. Sprites must be named after pose.
+	 * Creates an animation for every pose the entity has a sprite for.
+	 * Sprite sheets are shared between all entities of the same kind,
+	 * only the playback position belongs to this entity.
 	 */
 	private void loadAllAnimations(int spriteWidth) {
-    try {
-        String basePath = name + "/";
-        URL directoryUrl = getClass().getResource("/" + basePath);
-        if (directoryUrl == null) return;
-
-        Set<String> resourceFiles = new HashSet<>();
-        if (directoryUrl.getProtocol().equals("file")) {
-            File directory = new File(directoryUrl.toURI());
-            resourceFiles = Arrays.stream(Objects.requireNonNull(directory.listFiles()))
-                    .map(File::getName)
-                    .collect(Collectors.toSet());
-        } else {
-            URI uri = directoryUrl.toURI();
-            FileSystem fileSystem;
-            try {
-                fileSystem = FileSystems.getFileSystem(uri);
-            } catch (FileSystemNotFoundException e) {
-                fileSystem = FileSystems.newFileSystem(uri, Collections.emptyMap());
-            }
-            
-            Path path = fileSystem.getPath(basePath);
-            try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
-                for (Path entry : stream) {
-                    resourceFiles.add(entry.getFileName().toString());
-                }
-            }
-        }
-
-        for (String fileName : resourceFiles) {
-            String poseName = fileName.split("\\.")[0];
-            Pose pose = Pose.getPose(poseName);
-            if (pose == null) continue;
-            
-            animations.put(pose, new Animation(name + "/" + pose.getName(), spriteWidth, pose.getDuration())
-                    .setRepeatable(pose.isRepeated()));
-            poses.add(pose);
-        }
-    } catch (IOException | URISyntaxException e) {
-        e.printStackTrace();
-    }
-}
+		for (Pose pose : getPoses(name)) {
+			animations.put(pose, new Animation(name + "/" + pose.getName(), spriteWidth, pose.getDuration())
+					.setRepeatable(pose.isRepeated()));
+			poses.add(pose);
+		}
+	}
+
+	/**
+	 * @param name The name of the entity.
+	 * @return The poses that have a sprite, looked up once per kind of entity.
+	 */
+	public static Set<Pose> getPoses(String name) {
+		return POSES.computeIfAbsent(name, Entity::findPoses);
+	}
+
+	/**
+	 * Finds all poses listed in the resource manifest under
+	 * the entity's given name. Sprites must be named after pose.
+	 *
+	 * @param name The name of the entity.
+	 * @return The poses that have a sprite.
+	 */
+	private static Set<Pose> findPoses(String name) {
+		Set<Pose> found = EnumSet.noneOf(Pose.class);
+		for (String fileName : ResourceManifest.get().list(name)) {
+			Pose pose = Pose.getPose(fileName.split("\\.")[0]);
+			if (pose != null) found.add(pose);
+		}
+		return found;
+	}
 
 
 	/**
@@ -502,6 +547,26 @@ public abstract class Entity extends Hitbox {
 		return true;
 	}
 
+	/**
+	 * @return True if the attack is on the frame that lands.
+	 */
+	public boolean isAttackFrame() {
+		Animation animation = getCurrentAnimation();
+		return animation != null && animation.getCurrentIndex() == attackPoseIndex;
+	}
+
+	/**
+	 * Damage the entity on behalf of an attacker that is not an
+	 * entity of its own, such as an enemy within an {@link EnemyStore}.
+	 *
+	 * @param damage             The amount of damage to be taken.
+	 * @param attackerFacingLeft Which way the attacker faces, the entity is knocked back that way.
+	 */
+	public void damage(int damage, boolean attackerFacingLeft) {
+		knockbackDirection = attackerFacingLeft ? -1 : 1;
+		damage(damage);
+	}
+
 	/**
 	 * Damage the entity.
 	 *
@@ -527,13 +592,15 @@ public abstract class Entity extends Hitbox {
 		}
 
 		attacker = null;
+		knockbackDirection = 0;
 	}
 
 	/**
 	 * Knocks a player back on the x-dimension.
 	 */
 	private void knockbackX() {
-		boolean facingLeft = attacker == null ? isFacingLeft() : !attacker.isFacingLeft();
+		boolean facingLeft = attacker != null ? !attacker.isFacingLeft() :
+				knockbackDirection != 0 ? knockbackDirection > 0 : isFacingLeft();
 		int kb = (int) (2 * Game.SCALE);
 		if (!facingLeft)
 			vx = -kb * Game.SCALE;
@@ -564,4 +631,12 @@ public abstract class Entity extends Hitbox {
 	public Hitbox getAttackBox() {
 		return attackBox;
 	}
+
+	public int getAttackDamage() {
+		return attackDamage;
+	}
+
+	public String getName() {
+		return name;
+	}
 }
\ No newline at end of file
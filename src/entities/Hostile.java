@@ -2,6 +2,7 @@ package entities;
 
 import game.Game;
 import game.states.Playing;
+import levels.Level;
 import sounds.Sound;
 import sprites.Pose;
 
@@ -11,7 +12,10 @@ import sprites.Pose;
  **/
 public abstract class Hostile extends Entity {
 
+	public final static int MAX_SIGHT_DISTANCE = Game.TILES_SIZE * 5; /* no hostile mob sees or reaches further */
+
 	private int tileY;
+	private boolean nearPlayer; /* set by the level for mobs the player is within sight distance of */
 	protected int attackDistance;
 	protected int sightDistance;
 	protected int attackDelay;
@@ -97,6 +101,7 @@ public abstract class Hostile extends Entity {
 	 * @return True if player within range and accessible.
 	 */
 	public boolean isInSight(Player player) {
+		if(!nearPlayer)return false;
 		if((player.getTileY() == tileY || (player.isJumping() && (Math.abs(player.getTileY() - tileY) < 4))) && !playing.getLevelManager().getCurrentLevel().isComplete()) {
 			if(getDistanceFrom(player) <= sightDistance)
 				return isWalkable(player) && player.isActive() && !player.isDying();
@@ -105,7 +110,17 @@ public abstract class Hostile extends Entity {
 	}
 
 	public boolean isInAttackRange(Player player) {
-		return !playing.getLevelManager().getCurrentLevel().isComplete() && getDistanceFrom(player) <= attackDistance;
+		return nearPlayer && !playing.getLevelManager().getCurrentLevel().isComplete() && getDistanceFrom(player) <= attackDistance;
+	}
+
+	/**
+	 * Lets the mob look for the player this tick, it is
+	 * only set for mobs the player is close enough to.
+	 *
+	 * @param nearPlayer Is the player within sight distance.
+	 */
+	public void setNearPlayer(boolean nearPlayer) {
+		this.nearPlayer = nearPlayer;
 	}
 
 	/**
@@ -116,33 +131,28 @@ public abstract class Hostile extends Entity {
 	 * @return True if the path between a player and enemy is not obstructed.
 	 */
 	private boolean isWalkable(Player player) {
-		int tileX = getTileX();
-		int pTileX;
-
-		if(getLevel().isSolid(player.getX(), player.getY() + player.getHeight() + 1))
-			pTileX = player.getTileX();
-		else pTileX = (int) ((player.getX() + player.getWidth()) / Game.TILES_SIZE);
-
-		if(tileX < pTileX) return isPathClear(tileX, pTileX);
-		else 							 return isPathClear(pTileX, tileX);
+		return isWalkable(getLevel(), getTileX(), tileY, player);
 	}
 
 	/**
-	 * Checks all tiles between two points and
-	 * determines if they are solid.
+	 * Checks all tiles between a mob's column and the player's,
+	 * for obstructions and for floor all the way. Shared with
+	 * {@link EnemyStore}, which keeps its enemies as plain numbers.
 	 *
-	 * @param xStart The starting x-tile.
-	 * @param xEnd   The ending x-tile.
-	 * @return True if there are no obstructions, otherwise, false.
+	 * @param level  The level.
+	 * @param tileX  The column the mob is in.
+	 * @param tileY  The row the mob stands on.
+	 * @param player The player object.
+	 * @return True if the path between a player and enemy is not obstructed.
 	 */
-	private boolean isPathClear(int xStart, int xEnd) {
-		for (int i = 0; i < xEnd - xStart; i++) {
-			if (getLevel().isSolid(xStart + i, tileY, false))
-				return false;
-			if (!getLevel().isSolid(xStart + i, tileY + 1, false))
-				return false;
-		}
-		return true;
+	static boolean isWalkable(Level level, int tileX, int tileY, Player player) {
+		int pTileX;
+		if(level.isSolid(player.getX(), player.getY() + player.getHeight() + 1))
+			pTileX = player.getTileX();
+		else pTileX = (int) ((player.getX() + player.getWidth()) / Game.TILES_SIZE);
+
+		int xStart = Math.min(tileX, pTileX), xEnd = Math.max(tileX, pTileX);
+		return level.isSpanClear(tileY, xStart, xEnd) && level.isSpanSolid(tileY + 1, xStart, xEnd);
 	}
 
 	/**
@@ -0,0 +1,48 @@
+package entities.enemies;
+
+import entities.EnemyStore;
+import entities.Player;
+import game.Game;
+import game.states.Playing;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class SlimeStore extends EnemyStore {
+
+	/**
+	 * Holds every {@link Slime} of a level that has too many of them to keep
+	 * as objects. They look and behave the same.
+	 *
+	 * @param playing The playing state.
+	 */
+	public SlimeStore(Playing playing) {
+		super(playing, "slime",
+				14, 11,
+				32,
+				9, 20,
+				10);
+		attackDamage = 10;
+		attackDistance = 5;
+		sightDistance = Game.TILES_SIZE * 5;
+	}
+
+	@Override
+	protected void update(int i) {
+		super.update(i);
+		if(isDying(i) || isHurt(i) || inAir[i])return;
+		Player player = playing.getPlayer();
+
+		if(isInSight(i, player)) {
+			if(!isInAttackRange(i, player)) {
+				walk(i, player.getX() < x[i], 1);
+				if(getLevel().isSolid(x[i] + vx[i] + (facingLeft[i] ? 0 : w), y[i] + h + 1))
+					move(i);
+			} else if(attackDelay[i] <= 0) {
+				if(overlaps(i, player.getX(), player.getY(), player.getWidth(), player.getHeight()))
+					attack(i, player);
+			}
+		}
+	}
+}
@@ -0,0 +1,176 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class AssetPipeline {
+
+	private final ForkJoinPool pool;
+	private final List<Task<?>> tasks;
+	private final long start;
+
+	/**
+	 * Loads assets in parallel across a fork-join pool. Every asset is its
+	 * own task and only waits for the tasks it depends on, so startup is
+	 * bound by the slowest chain of assets rather than the sum of all of them.
+	 */
+	public AssetPipeline() {
+		this.pool = new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+		this.tasks = new ArrayList<>();
+		this.start = System.nanoTime();
+	}
+
+	/**
+	 * Schedules an asset to be loaded once its dependencies are.
+	 *
+	 * @param name         The name shown in the timing report.
+	 * @param loader       Loads the asset.
+	 * @param dependencies The tasks that must complete first.
+	 * @return The scheduled task.
+	 */
+	public <T> Task<T> add(String name, Supplier<T> loader, Task<?>... dependencies) {
+		Task<T> task = new Task<>(name);
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[dependencies.length];
+		for(int i = 0; i < dependencies.length; i++)
+			futures[i] = dependencies[i].future;
+
+		CompletableFuture.allOf(futures).handleAsync((ignored, failure) -> { /* a failed dependency still lets dependents run */
+			task.started = System.nanoTime();
+			T asset = null;
+			Throwable error = null;
+			try {
+				asset = loader.get();
+			} catch (Throwable t) {
+				t.printStackTrace();
+				error = t;
+			}
+			task.finished = System.nanoTime(); /* before completing, so the report never sees it unfinished */
+			if(error == null) task.future.complete(asset);
+			else task.future.completeExceptionally(error);
+			return null;
+		}, pool);
+
+		synchronized(tasks) {
+			tasks.add(task);
+		}
+		return task;
+	}
+
+	/**
+	 * Schedules work that does not produce an asset of its own.
+	 *
+	 * @param name         The name shown in the timing report.
+	 * @param loader       The work to run.
+	 * @param dependencies The tasks that must complete first.
+	 * @return The scheduled task.
+	 */
+	public Task<Void> run(String name, Runnable loader, Task<?>... dependencies) {
+		return add(name, () -> {
+			loader.run();
+			return null;
+		}, dependencies);
+	}
+
+	/**
+	 * Groups tasks together, so others can depend on all of them at once.
+	 *
+	 * @param name    The name of the group.
+	 * @param members The tasks in the group.
+	 * @return A task completing once every member has.
+	 */
+	public Task<Void> group(String name, List<? extends Task<?>> members) {
+		Task<Void> group = run(name, () -> {}, members.toArray(new Task<?>[0]));
+		group.group = true;
+		return group;
+	}
+
+	/**
+	 * @return A future completing once every task scheduled so far has.
+	 */
+	public CompletableFuture<Void> whenDone() {
+		synchronized(tasks) {
+			return CompletableFuture.allOf(tasks.stream().map(t -> t.future.exceptionally(e -> null)).toArray(CompletableFuture[]::new));
+		}
+	}
+
+	/**
+	 * Stops the pool's threads once the remaining tasks are done.
+	 */
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * Lists how long each asset took to load, slowest first.
+	 *
+	 * @param limit The number of assets to list.
+	 * @return The report, one asset per line.
+	 */
+	public String report(int limit) {
+		List<Task<?>> done;
+		synchronized(tasks) {
+			done = new ArrayList<>(tasks);
+		}
+		done.removeIf(t -> t.group || !t.future.isDone());
+		done.sort(Comparator.comparingLong(Task<?>::getNanos).reversed());
+
+		long end = done.stream().mapToLong(t -> t.finished).max().orElse(start);
+		long total = done.stream().mapToLong(Task::getNanos).sum();
+		StringBuilder builder = new StringBuilder(String.format("--> Loaded %d assets in %.1fms (%.1fms of work)%n",
+				done.size(), (end - start) / 1e6, total / 1e6));
+		for(int i = 0; i < Math.min(limit, done.size()); i++) {
+			Task<?> task = done.get(i);
+			builder.append(String.format("    %7.1fms  %s (at %.1fms)%n", task.getNanos() / 1e6, task.name, (task.started - start) / 1e6));
+		}
+		return builder.toString();
+	}
+
+	public static class Task<T> {
+
+		private final String name;
+		private final CompletableFuture<T> future;
+		private volatile long started, finished;
+		private boolean group;
+
+		private Task(String name) {
+			this.name = name;
+			this.future = new CompletableFuture<>();
+		}
+
+		/**
+		 * Waits for the asset to be loaded.
+		 *
+		 * @return The asset, or null if it failed to load.
+		 */
+		public T join() {
+			try {
+				return future.join();
+			} catch (RuntimeException e) {
+				return null;
+			}
+		}
+
+		public boolean isDone() {
+			return future.isDone();
+		}
+
+		/**
+		 * @return How long the asset took to load.
+		 */
+		public long getNanos() {
+			return finished - started;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
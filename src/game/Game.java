@@ -1,20 +1,33 @@
 package game;
 
+import entities.Entity;
 import game.states.Playing;
 import game.states.Menu;
 import game.states.State;
+import levels.LevelLayer;
+import levels.LevelStyle;
+import levels.StyleAssets;
 import sounds.SoundManager;
+import sprites.ImageHeap;
+import sprites.Pose;
+import sprites.TextureAtlas;
+import utils.ResourceManifest;
 
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Written by Nicholas Cercos
  * Created on Oct 04 2023
  **/
-public class Game implements Runnable {
+public class Game {
 
 	// Screen
 	private final GameWindow gameWindow;
@@ -28,57 +41,186 @@ public class Game implements Runnable {
 	public final static int GAME_WIDTH = TILES_SIZE * TILES_IN_WIDTH;
 	public final static int GAME_HEIGHT = TILES_SIZE * TILES_IN_HEIGHT;
 
+	// Presentation
+	public final static boolean NATIVE_RENDERING = true; /* draw at 1x, then upscale the whole frame once */
+	public final static int NATIVE_WIDTH = TILES_DEFAULT_SIZE * TILES_IN_WIDTH;
+	public final static int NATIVE_HEIGHT = TILES_DEFAULT_SIZE * TILES_IN_HEIGHT;
+	public final static int WINDOW_SCALE = 3;
+	public final static int WINDOW_WIDTH = NATIVE_RENDERING ? NATIVE_WIDTH * WINDOW_SCALE : GAME_WIDTH;
+	public final static int WINDOW_HEIGHT = NATIVE_RENDERING ? NATIVE_HEIGHT * WINDOW_SCALE : GAME_HEIGHT;
+
 	// States
 	private final Menu menu;
-	private final Playing playing;
+	private volatile Playing playing; /* built in the background while the menu is shown */
 
 	// Utils
+	public final static boolean PROFILE = Boolean.getBoolean("dd.profile"); /* -Ddd.profile=true prints where loading time and memory went */
 	private SoundManager soundManager;
+	private final GameLoop loop;
+	private volatile double interpolation;
+	private static final Map<String, AssetPipeline.Task<BufferedImage>> PRELOADED = new ConcurrentHashMap<>();
+	private final static String[] PRELOADED_DIRECTORIES = { "tiles", "ui", "items", "containers" };
 
 	public Game() {
+		AssetPipeline pipeline = new AssetPipeline();
 		soundManager = new SoundManager();
-		playing = new Playing(this);
-		menu = new Menu(this);
+		soundManager.loadSounds(pipeline);
+
+		// The menu only waits for its own assets
+		LevelStyle style = LevelStyle.values()[ThreadLocalRandom.current().nextInt(LevelStyle.values().length)];
+		List<String> menuPaths = new ArrayList<>(StyleAssets.getPaths(style));
+		AssetPipeline.Task<StyleAssets> menuStyle = pipeline.add("style " + style.getName(),
+				() -> StyleAssets.acquire(style), preloadSprites(pipeline, menuPaths));
+		List<String> menuSprites = List.of("ui/icon.png", "ui/logo.png", "ui/menu_buttons.png");
+		preloadSprites(pipeline, menuSprites);
+		menuPaths.addAll(menuSprites);
+
+		// Everything else is loaded while the menu is up, as listed in the resource manifest
+		List<String> paths = new ArrayList<>();
+		for(String directory : PRELOADED_DIRECTORIES)
+			for(String file : ResourceManifest.get().list(directory))
+				paths.add(directory + "/" + file);
+		paths.removeIf(path -> !path.endsWith(".png") || menuPaths.contains(path) || !isPreloaded(path));
+		for(String entity : new String[] { "player", "goblin", "slime", "flower" })
+			for(Pose pose : Entity.getPoses(entity))
+				paths.add(entity + "/" + pose.getName() + ".png");
+		pipeline.run("playing", () -> playing = new Playing(this), preloadSprites(pipeline, paths));
+
+		menu = new Menu(this, menuStyle.join());
 		gamePanel = new GamePanel(this);
 		gameWindow = new GameWindow(gamePanel);
 		gamePanel.requestFocus();
+		loop = new GameLoop(this, GameLoop.Pacing.VSYNC, 120);
 		init();
+
+		pipeline.whenDone().thenRun(() -> {
+			if(PROFILE) System.out.print(pipeline.report(10));
+			if(PROFILE) System.out.print(ImageHeap.report() + StyleAssets.getHeapReport());
+			pipeline.shutdown();
+		});
+	}
+
+	/**
+	 * Sprites that are only loaded once a level needs them are left out:
+	 * the tiles of each style, which come with the rest of the style,
+	 * and the spawn markers, which are only seen in level editors.
+	 *
+	 * @param path The path starting from the res folder.
+	 * @return True if the sprite should be decoded while the menu is up.
+	 */
+	private static boolean isPreloaded(String path) {
+		if(path.equals("tiles/" + LevelLayer.SPAWNS.getName() + ".png"))return false;
+		for(LevelStyle style : LevelStyle.values())
+			if(path.equals("tiles/" + style.getFileName()))return false;
+		return true;
 	}
 
 	/**
 	 * Loads any sprite within the game's resource directory.
+	 * Sprites that were preloaded are handed over, waiting for them if needed.
 	 *
 	 * @param path The path starting from the res folder.
 	 * @return An image, if it exists, otherwise null.
 	 */
 	public static BufferedImage loadSprite(String path) {
+		AssetPipeline.Task<BufferedImage> preloaded = PRELOADED.remove(path);
+		if(preloaded != null) return preloaded.join();
+		return decodeSprite(path);
+	}
+
+	/**
+	 * Starts decoding sprites ahead of time. The next call to
+	 * {@link #loadSprite(String)} for each receives the decoded image.
+	 *
+	 * @param pipeline The pipeline to decode them on.
+	 * @param paths    The paths starting from the res folder.
+	 * @return A task completing once every sprite is decoded.
+	 */
+	public static AssetPipeline.Task<Void> preloadSprites(AssetPipeline pipeline, List<String> paths) {
+		List<AssetPipeline.Task<BufferedImage>> tasks = new ArrayList<>();
+		for(String path : paths) {
+			AssetPipeline.Task<BufferedImage> task = pipeline.add(path, () -> decodeSprite(path));
+			PRELOADED.put(path, task);
+			tasks.add(task);
+		}
+		return pipeline.group("sprites", tasks);
+	}
+
+	/**
+	 * Decodes a sprite and counts it towards the memory used by art.
+	 *
+	 * @param path The path starting from the res folder.
+	 * @return An image, if it exists, otherwise null.
+	 */
+	private static BufferedImage decodeSprite(String path) {
 		try {
-			return ImageIO.read(Game.class.getResourceAsStream("/" + path));
+			BufferedImage sprite = ImageIO.read(Game.class.getResourceAsStream("/" + path));
+			ImageHeap.track(sprite);
+			return sprite;
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
 		return null;
 	}
 
+	/**
+	 * Creates a transparent image in the display's native pixel format,
+	 * so drawing it can stay on the accelerated path.
+	 *
+	 * @param width  The width of the image.
+	 * @param height The height of the image.
+	 * @return An empty image.
+	 */
+	public static BufferedImage createCompatibleImage(int width, int height) {
+		return createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+	}
+
+	/**
+	 * Creates an image in the display's native pixel format. Images that are
+	 * opaque, or only fully see-through in places, copy faster than translucent ones.
+	 *
+	 * @param width        The width of the image.
+	 * @param height       The height of the image.
+	 * @param transparency The {@link Transparency} the image needs.
+	 * @return An empty image.
+	 */
+	public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+		if(GraphicsEnvironment.isHeadless())
+			return new BufferedImage(width, height, transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+		return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+				.getDefaultConfiguration().createCompatibleImage(width, height, transparency);
+	}
+
 	/**
 	 * Initializes the game loop and starts all services.
 	 */
 	private void init() {
-		new Thread(this).start();
+		Thread thread = new Thread(loop, "Game Loop");
+		TextureAtlas.setDrawThread(thread);
+		thread.start();
 	}
 
 	/**
 	 * Everything that needs to be updated and re-rendered.
 	 */
-	private void update() {
+	void update() {
 		State state = getCurrentState();
 		if(state == null) {
 			System.exit(0);
 			return;
 		}
+		TextureAtlas.flush(); /* sprites added by loading threads */
 		state.update();
 	}
 
+	/**
+	 * Presents the latest state of the game to the screen.
+	 */
+	void render() {
+		TextureAtlas.flush();
+		gamePanel.render();
+	}
+
 	/**
 	 * Renders assets to the scene.
 	 *
@@ -95,36 +237,20 @@ public class Game implements Runnable {
 		getCurrentState().lostFocus();
 	}
 
-	/**
-	 * The game loop.
-	 */
-	@Override
-	public void run() {
-		double timePerFrame = 1000000000.0 / 60;
-		long lastFrame = System.nanoTime();
-		long now;
-
-		while(true) {
-			now = System.nanoTime();
-			if(now - lastFrame >= timePerFrame) {
-				update();
-				gamePanel.repaint();
-				lastFrame = now;
-			}
-		}
-	}
-
 	/**
 	 * @return The game's current state.
 	 */
 	public State getCurrentState() {
 		switch (GameState.current) {
 			case MENU ->   {  return menu;   }
-			case PLAYING -> { return playing; }
+			case PLAYING -> { return playing != null ? playing : menu; } /* stay on the menu until loaded */
 		}
 		return null;
 	}
 
+	/**
+	 * @return The playing state, or null while it is still loading.
+	 */
 	public Playing getPlaying() {
 		return playing;
 	}
@@ -132,4 +258,19 @@ public class Game implements Runnable {
 	public SoundManager getSoundManager() {
 		return soundManager;
 	}
+
+	public GameLoop getLoop() {
+		return loop;
+	}
+
+	/**
+	 * @return How far between the last two ticks the frame being drawn is, from 0 to 1.
+	 */
+	public double getInterpolation() {
+		return interpolation;
+	}
+
+	void setInterpolation(double interpolation) {
+		this.interpolation = interpolation;
+	}
 }
@@ -0,0 +1,127 @@
+package game;
+
+import java.awt.*;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class GameLoop implements Runnable {
+
+	private final Game game;
+
+	public final static int UPDATES_PER_SECOND = 60;
+	private final static long NANOS_PER_UPDATE = 1_000_000_000L / UPDATES_PER_SECOND;
+	private final static long MAX_FRAME_TIME = NANOS_PER_UPDATE * 8;   /* stops a long stall from replaying hundreds of ticks */
+	private final static long SPIN_THRESHOLD = 1_000_000L;             /* the last millisecond is spun, parking is too coarse */
+
+	private Pacing pacing;
+	private long nanosPerFrame;
+	private volatile boolean running;
+
+	public GameLoop(Game game, Pacing pacing, int fpsCap) {
+		this.game = game;
+		setPacing(pacing, fpsCap);
+	}
+
+	/**
+	 * Changes how often frames are presented.
+	 *
+	 * @param pacing The pacing policy.
+	 * @param fpsCap The frame cap, only used by {@link Pacing#CAPPED}.
+	 */
+	public void setPacing(Pacing pacing, int fpsCap) {
+		this.pacing = pacing;
+		switch (pacing) {
+			case VSYNC ->    nanosPerFrame = 1_000_000_000L / getRefreshRate();
+			case CAPPED ->   nanosPerFrame = 1_000_000_000L / Math.max(1, fpsCap);
+			case UNCAPPED -> nanosPerFrame = 0;
+		}
+	}
+
+	/**
+	 * Runs updates on a fixed timestep and presents frames at the rate
+	 * chosen by the pacing policy, independently of each other. Frames
+	 * are drawn between the last two ticks so motion stays smooth. Time
+	 * left over is slept away instead of polling the clock.
+	 */
+	@Override
+	public void run() {
+		running = true;
+		long previous = System.nanoTime();
+		long nextFrame = previous;
+		long accumulator = 0;
+
+		while(running) {
+			long now = System.nanoTime();
+			accumulator += Math.min(now - previous, MAX_FRAME_TIME);
+			previous = now;
+
+			while(accumulator >= NANOS_PER_UPDATE) {
+				game.update();
+				accumulator -= NANOS_PER_UPDATE;
+			}
+
+			if(now - nextFrame >= 0) {
+				game.setInterpolation((double) accumulator / NANOS_PER_UPDATE);
+				game.render();
+				nextFrame += nanosPerFrame;
+				if(now - nextFrame > nanosPerFrame) nextFrame = now; /* fell behind, don't try to catch up */
+			}
+
+			if(pacing == Pacing.UNCAPPED) {
+				Thread.yield();
+				continue;
+			}
+			long deadline = now + (NANOS_PER_UPDATE - accumulator);
+			if(nextFrame - now > 0) deadline = Math.min(deadline, nextFrame);
+			waitUntil(deadline);
+		}
+	}
+
+	/**
+	 * Stops the loop after the current frame.
+	 */
+	public void stop() {
+		running = false;
+	}
+
+	/**
+	 * Parks the thread until shortly before the deadline, then spins
+	 * for the remainder to hit it precisely.
+	 *
+	 * @param deadline The {@link System#nanoTime()} to wait for.
+	 */
+	private void waitUntil(long deadline) {
+		long remaining;
+		while((remaining = deadline - System.nanoTime()) > SPIN_THRESHOLD)
+			LockSupport.parkNanos(remaining - SPIN_THRESHOLD);
+		while(deadline - System.nanoTime() > 0)
+			Thread.onSpinWait();
+	}
+
+	/**
+	 * @return The refresh rate of the main display, or 60 if it cannot be determined.
+	 */
+	private static int getRefreshRate() {
+		try {
+			int rate = GraphicsEnvironment.getLocalGraphicsEnvironment()
+					.getDefaultScreenDevice().getDisplayMode().getRefreshRate();
+			if(rate != DisplayMode.REFRESH_RATE_UNKNOWN) return rate;
+		} catch (HeadlessException ignored) {}
+		return 60;
+	}
+
+	public Pacing getPacing() {
+		return pacing;
+	}
+
+	public enum Pacing {
+
+		VSYNC,    /* present at the display's refresh rate */
+		CAPPED,   /* present at a fixed frame cap */
+		UNCAPPED  /* present as fast as possible */
+
+	}
+}
@@ -3,26 +3,27 @@ package game;
 import inputs.KeyboardInputs;
 import inputs.MouseInputs;
 
-import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.awt.image.VolatileImage;
 
-import static game.Game.GAME_HEIGHT;
-import static game.Game.GAME_WIDTH;
+import static game.Game.*;
 
 /**
  * Written by Nicholas Cercos
  * Created on Oct 04 2023
  **/
-public class GamePanel extends JPanel {
+public class GamePanel extends Canvas {
 
 	private final Game game;
-	private Image scene;
-	private Graphics pen;
+	private BufferStrategy strategy;
+	private VolatileImage scene;
 
 	public GamePanel(Game game) {
 		this.game = game;
 		MouseInputs mouseInputs = new MouseInputs(game);
-		setPreferredSize(new Dimension(GAME_WIDTH, GAME_HEIGHT));
+		setPreferredSize(new Dimension(WINDOW_WIDTH, WINDOW_HEIGHT));
+		setIgnoreRepaint(true); /* frames are presented by the game loop, not the EDT */
 		addKeyListener(new KeyboardInputs(game));
 		addMouseListener(mouseInputs);
 		addMouseMotionListener(mouseInputs);
@@ -30,18 +31,80 @@ public class GamePanel extends JPanel {
 	}
 
 	/**
-	 * Renders visuals to display.
+	 * Renders visuals into the back buffer and flips it to the display.
+	 * Called on the game loop thread as soon as a frame is ready.
+	 */
+	public void render() {
+		if(!isDisplayable())return;
+		if(strategy == null) createStrategy();
+
+		// Accelerated buffers can be lost at any time (mode switch, screen lock),
+		// so keep redrawing until a frame was shown with its contents intact.
+		do {
+			do {
+				Graphics g = strategy.getDrawGraphics();
+				try {
+					if(NATIVE_RENDERING) drawNative((Graphics2D) g);
+					else drawScene(g);
+				} finally {
+					g.dispose();
+				}
+			} while(strategy.contentsRestored());
+			strategy.show();
+		} while(strategy.contentsLost());
+		Toolkit.getDefaultToolkit().sync();
+	}
+
+	/**
+	 * Draws the game straight to the screen, every sprite scaled individually.
 	 *
 	 * @param g The graphics context.
 	 */
-	public void paintComponent(Graphics g) {
-		if(scene == null) {
-			scene = createImage(GAME_WIDTH, GAME_HEIGHT);
-			pen = scene.getGraphics();
+	private void drawScene(Graphics g) {
+		g.clearRect(0, 0, GAME_WIDTH, GAME_HEIGHT);
+		game.draw(g);
+	}
+
+	/**
+	 * Draws the game at the art's native resolution into a small buffer,
+	 * then upscales the finished frame to the window in a single blit.
+	 * Game logic still works in scaled units, so the scene is drawn
+	 * through a transform that maps them back to 1x.
+	 *
+	 * @param screen The graphics context of the back buffer.
+	 */
+	private void drawNative(Graphics2D screen) {
+		GraphicsConfiguration gc = getGraphicsConfiguration();
+		do {
+			if(scene == null || scene.validate(gc) == VolatileImage.IMAGE_INCOMPATIBLE)
+				scene = gc.createCompatibleVolatileImage(NATIVE_WIDTH, NATIVE_HEIGHT);
+
+			Graphics2D g = scene.createGraphics();
+			try {
+				g.scale(1 / SCALE, 1 / SCALE);
+				drawScene(g);
+			} finally {
+				g.dispose();
+			}
+
+			screen.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+			screen.drawImage(scene, 0, 0, WINDOW_WIDTH, WINDOW_HEIGHT, null);
+		} while(scene.contentsLost());
+	}
+
+	/**
+	 * Sets up double buffering with accelerated back buffers,
+	 * using page flipping when the display supports it.
+	 */
+	private void createStrategy() {
+		ImageCapabilities accelerated = new ImageCapabilities(true);
+		try {
+			createBufferStrategy(2, new BufferCapabilities(accelerated, accelerated,
+					BufferCapabilities.FlipContents.UNDEFINED));
+		} catch (AWTException e) {
+			createBufferStrategy(2); /* no page flipping, back buffer is blitted instead */
 		}
-		pen.clearRect(0, 0, GAME_WIDTH, GAME_HEIGHT);
-		game.draw(pen);
-		g.drawImage(scene, 0, 0, this);
+		strategy = getBufferStrategy();
 	}
 
 	public Game getGame() {
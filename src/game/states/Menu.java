@@ -2,17 +2,17 @@ package game.states;
 
 import game.Game;
 import game.GameState;
-import levels.LevelStyle;
+import levels.ParallaxBackground;
+import levels.StyleAssets;
+import sprites.TextureAtlas;
 import ui.Button;
 import ui.buttons.MenuButton;
 
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
-import java.awt.image.BufferedImage;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Written by Nicholas Cercos
@@ -21,32 +21,32 @@ import java.util.concurrent.ThreadLocalRandom;
 public class Menu extends State {
 
 	// Logo & Buttons
-	private BufferedImage logoImg;
+	private int logoImg = TextureAtlas.NONE;
 	private int x, y, w, h;
 	private final Set<MenuButton> buttons;
 
 	// Background
-	private final BufferedImage bgImg, lmImg, smImg, msImg;
-	private int bgOffsetX;
+	private final ParallaxBackground background;
+	private int bgOffsetX, prevBgOffsetX;
 	private boolean bgMoveLeft;
 
-	public Menu(Game game) {
+	/**
+	 * @param game   The game.
+	 * @param assets The style shown behind the menu, held for as long as the menu exists.
+	 */
+	public Menu(Game game, StyleAssets assets) {
 		super(game);
 		buttons = new HashSet<>();
-		LevelStyle style = LevelStyle.values()[ThreadLocalRandom.current().nextInt(LevelStyle.values().length)];
-		bgImg = game.getPlaying().getLevelManager().getBackgroundImage(style);
-		lmImg = game.getPlaying().getLevelManager().getMountainImage(style, true, true);
-		smImg = game.getPlaying().getLevelManager().getMountainImage(style, false, true);
-		msImg = game.getPlaying().getLevelManager().getMountainShadowImage(style);
+		background = assets.getBackground(true);
 		loadMenu();
 		loadButtons();
 	}
 
 	private void loadMenu() {
-		logoImg = Game.loadSprite("ui/logo.png");
-		if(logoImg == null) return;
-		w = (int) ((float) logoImg.getWidth() / 3 * Game.SCALE);
-		h = (int) ((float) logoImg.getHeight() / 3 * Game.SCALE);
+		logoImg = TextureAtlas.add(Game.loadSprite("ui/logo.png"));
+		if(logoImg == TextureAtlas.NONE) return;
+		w = (int) ((float) TextureAtlas.getWidth(logoImg) / 3 * Game.SCALE);
+		h = (int) ((float) TextureAtlas.getHeight(logoImg) / 3 * Game.SCALE);
 		x = (Game.GAME_WIDTH / 2) - (w / 2);
 		y = (int) (20 * Game.SCALE);
 	}
@@ -69,18 +69,19 @@ public class Menu extends State {
 	@Override
 	public void update() {
 		buttons.forEach(MenuButton::update);
-	}
 
-	@Override
-	public void draw(Graphics g) {
 		int BG_SCROLL_LIMIT = (int) (766 * Game.SCALE);
 		if(bgOffsetX == BG_SCROLL_LIMIT && bgMoveLeft) bgMoveLeft = false;
 		else if(bgOffsetX == 0 && !bgMoveLeft) bgMoveLeft = true;
+		prevBgOffsetX = bgOffsetX;
 		bgOffsetX = bgMoveLeft ? (bgOffsetX + 1) : (bgOffsetX - 1);
+	}
 
-		game.getPlaying().getLevelManager().getCurrentLevel()
-				.drawBackground(g, bgImg, lmImg, msImg, smImg, bgOffsetX);
-		g.drawImage(logoImg, x, y, w, h, null);
+	@Override
+	public void draw(Graphics g) {
+		int offsetX = (int) (prevBgOffsetX + (bgOffsetX - prevBgOffsetX) * game.getInterpolation());
+		background.draw(g, offsetX);
+		TextureAtlas.draw(g, logoImg, x, y, w, h);
 		buttons.forEach(b -> b.draw(g));
 	}
 
@@ -113,9 +114,10 @@ public class Menu extends State {
 				if(b.isMousePressed()) {
 					setState(b.getState());
 
+					Playing playing = game.getPlaying(); /* null until the game has finished loading */
 					if(b.getState().equals(GameState.PLAYING) &&
-							game.getPlaying().isPaused())
-						game.getPlaying().togglePause();
+							playing != null && playing.isPaused())
+						playing.togglePause();
 				}
 				break;
 			}
@@ -17,6 +17,7 @@ import ui.overlays.PauseOverlay;
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Written by Nicholas Cercos
@@ -24,12 +25,15 @@ import java.awt.event.MouseEvent;
  **/
 public class Playing extends State {
 
+	private final static int COMBAT_REACH = 3 * Game.TILES_SIZE; /* attack boxes sit up to about two tiles from a mob */
+
 	private final Player player;
 	private final LevelManager levelManager;
 	private final SoundManager soundManager;
 
 	private boolean paused;
 	private final Overlay[] overlays;
+	private final AtomicReference<Runnable> levelChange = new AtomicReference<>(); /* asked for by the UI, made by the game loop */
 
 	public Playing(Game game) {
 		super(game);
@@ -58,8 +62,23 @@ public class Playing extends State {
 		soundManager.playSFX(paused ? Sound.PAUSE : Sound.UNPAUSE);
 	}
 
+	/**
+	 * Asks for the level to be switched or restarted. Buttons are handled
+	 * away from the game loop, so the change is only made at the start of
+	 * the next update, never while the level is being updated or drawn.
+	 * Asking again before then replaces the earlier request.
+	 *
+	 * @param change The change to make, such as moving on to the next level.
+	 */
+	public void requestLevelChange(Runnable change) {
+		levelChange.set(change);
+	}
+
 	@Override
 	public void update() {
+		Runnable change = levelChange.getAndSet(null);
+		if(change != null) change.run();
+
 		for(Overlay overlay : overlays)
 			overlay.update();
 
@@ -68,14 +87,19 @@ public class Playing extends State {
 		level.update();
 		player.update();
 
-		// Combat between mobs
-		for(Hostile e : level.getEnemies()) {
+		// Combat between mobs, only those within reach of the player's or their own attacks
+		for(Hostile e : level.getEnemiesNear(player.getX() - COMBAT_REACH, player.getX() + player.getWidth() + COMBAT_REACH)) {
 			if(player.isAttacking() && player.getAttackBox().overlaps(e))
 				player.attack(e);
 
 			if(e.isAttacking() && e.getAttackBox().overlaps(player) && !player.isRolling())
 				e.attack(player);
 		}
+		if(player.isAttacking() && level.getSlimes() != null)
+			level.getSlimes().takeHits(player);
+
+		level.updateAnimations();
+		player.updateAnimation();
 	}
 
 	@Override
@@ -153,4 +177,11 @@ public class Playing extends State {
 	public boolean isPaused() {
 		return paused;
 	}
+
+	/**
+	 * @return How far the next frame is between the last two ticks. (Frozen while paused)
+	 */
+	public double getInterpolation() {
+		return paused ? 1 : game.getInterpolation();
+	}
 }
@@ -21,25 +21,25 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
 	@Override
 	public void mouseClicked(MouseEvent e) {
 		if(game.getCurrentState() == null)return;
-		game.getCurrentState().mouseClicked(e);
+		game.getCurrentState().mouseClicked(toGameSpace(e));
 	}
 
 	@Override
 	public void mousePressed(MouseEvent e) {
 		if(game.getCurrentState() == null)return;
-		game.getCurrentState().mousePressed(e);
+		game.getCurrentState().mousePressed(toGameSpace(e));
 	}
 
 	@Override
 	public void mouseReleased(MouseEvent e) {
 		if(game.getCurrentState() == null)return;
-		game.getCurrentState().mouseReleased(e);
+		game.getCurrentState().mouseReleased(toGameSpace(e));
 	}
 
 	@Override
 	public void mouseMoved(MouseEvent e) {
 		if(game.getCurrentState() == null)return;
-		game.getCurrentState().mouseMoved(e);
+		game.getCurrentState().mouseMoved(toGameSpace(e));
 	}
 
 	@Override
@@ -51,6 +51,21 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
 	@Override
 	public void mouseDragged(MouseEvent e) {
 		if(game.getCurrentState() == null)return;
-		game.getCurrentState().mouseDragged(e);
+		game.getCurrentState().mouseDragged(toGameSpace(e));
+	}
+
+	/**
+	 * Converts a mouse event from window pixels to the scaled units the
+	 * game works in, as the window can be presented at a different scale.
+	 *
+	 * @param e The mouse event from the window.
+	 * @return An equivalent event in game coordinates.
+	 */
+	private MouseEvent toGameSpace(MouseEvent e) {
+		if(Game.WINDOW_WIDTH == Game.GAME_WIDTH && Game.WINDOW_HEIGHT == Game.GAME_HEIGHT) return e;
+		int x = e.getX() * Game.GAME_WIDTH / Game.WINDOW_WIDTH;
+		int y = e.getY() * Game.GAME_HEIGHT / Game.WINDOW_HEIGHT;
+		return new MouseEvent(e.getComponent(), e.getID(), e.getWhen(), e.getModifiersEx(),
+				x, y, e.getClickCount(), e.isPopupTrigger(), e.getButton());
 	}
 }
@@ -0,0 +1,97 @@
+package levels;
+
+import game.Game;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class Camera {
+
+	private final int tilesWide;
+	private final int maxOffsetX;
+	private int offsetX, prevOffsetX, renderOffsetX;
+
+	public Camera(int tilesWide) {
+		this.tilesWide = tilesWide;
+		this.maxOffsetX = Math.max(0, (tilesWide - Game.TILES_IN_WIDTH) * Game.TILES_SIZE);
+	}
+
+	/**
+	 * Moves the camera back to the start of the level.
+	 */
+	public void reset() {
+		offsetX = 0;
+		prevOffsetX = 0;
+		renderOffsetX = 0;
+	}
+
+	/**
+	 * Remembers the current offset as the one rendered
+	 * frames will interpolate from until the next tick.
+	 */
+	public void savePosition() {
+		prevOffsetX = offsetX;
+	}
+
+	/**
+	 * Places the camera for the frame about to be drawn.
+	 *
+	 * @param alpha How far between the previous and current tick, from 0 to 1.
+	 */
+	public void interpolate(double alpha) {
+		renderOffsetX = (int) (prevOffsetX + (offsetX - prevOffsetX) * alpha);
+	}
+
+	/**
+	 * Scrolls the camera, without going past either end of the level.
+	 *
+	 * @param value The distance to scroll by.
+	 */
+	public void addToOffsetX(int value) {
+		offsetX += value;
+		if(offsetX > maxOffsetX) offsetX = maxOffsetX;
+		else if(offsetX < 0) offsetX = 0;
+	}
+
+	public int getOffsetX() {
+		return offsetX;
+	}
+
+	/**
+	 * @return The offset of the frame being drawn, between the last two ticks.
+	 */
+	public int getRenderOffsetX() {
+		return renderOffsetX;
+	}
+
+	/**
+	 * @return The left-most tile column in view as of the last tick.
+	 */
+	public int getFirstColumn() {
+		return Math.max(0, offsetX / Game.TILES_SIZE);
+	}
+
+	/**
+	 * @return The column after the right-most tile column in view as of the last tick.
+	 */
+	public int getLastColumn() {
+		int last = (offsetX + Game.GAME_WIDTH + Game.TILES_SIZE - 1) / Game.TILES_SIZE;
+		return Math.min(tilesWide, last);
+	}
+
+	/**
+	 * @return The left-most tile column within the frame being drawn.
+	 */
+	public int getFirstVisibleColumn() {
+		return Math.max(0, renderOffsetX / Game.TILES_SIZE);
+	}
+
+	/**
+	 * @return The column after the right-most tile within the frame being drawn.
+	 */
+	public int getLastVisibleColumn() {
+		int last = (renderOffsetX + Game.GAME_WIDTH + Game.TILES_SIZE - 1) / Game.TILES_SIZE;
+		return Math.min(tilesWide, last);
+	}
+}
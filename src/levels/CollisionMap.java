@@ -0,0 +1,114 @@
+package levels;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class CollisionMap {
+
+	private final int width, height;
+	private final int wordsPerRow;
+	private final long[] bits; /* one bit per tile, set when solid, 64 columns per word */
+
+	/**
+	 * Works out which tiles of a level are solid, once, when it is loaded.
+	 *
+	 * @param foreground The foreground layer of the level.
+	 * @param style      The style deciding which tiles are solid.
+	 */
+	public CollisionMap(TileGrid foreground, LevelStyle style) {
+		this.width = foreground.getWidth();
+		this.height = foreground.getHeight();
+		this.wordsPerRow = (width + 63) >>> 6;
+		this.bits = new long[wordsPerRow * height];
+
+		for(int y = 0; y < height; y++)
+			for(int x = 0; x < width; x++)
+				if(!style.isNonSolid(foreground.get(x, y)))
+					bits[y * wordsPerRow + (x >>> 6)] |= 1L << x;
+	}
+
+	/**
+	 * @param x The column.
+	 * @param y The row.
+	 * @return True if the tile is solid. Tiles outside the level are not.
+	 */
+	public boolean isSolid(int x, int y) {
+		if(x < 0 || x >= width || y < 0 || y >= height) return false;
+		return (bits[y * wordsPerRow + (x >>> 6)] & (1L << x)) != 0;
+	}
+
+	/**
+	 * Obtain 64 tiles of a row at once.
+	 *
+	 * @param y     The row.
+	 * @param index The index of the word, covering columns index * 64 to index * 64 + 63.
+	 * @return A bit set for each solid tile, the lowest bit being the left-most column.
+	 */
+	public long getWord(int y, int index) {
+		if(y < 0 || y >= height || index < 0 || index >= wordsPerRow) return 0;
+		return bits[y * wordsPerRow + index];
+	}
+
+	/**
+	 * Checks a span of a row for solid tiles.
+	 *
+	 * @param y  The row.
+	 * @param x0 The first column. (inclusive)
+	 * @param x1 The last column. (exclusive)
+	 * @return True if none of the tiles are solid.
+	 */
+	public boolean isSpanClear(int y, int x0, int x1) {
+		if(y < 0 || y >= height) return true;
+		x0 = Math.max(x0, 0);
+		x1 = Math.min(x1, width);
+		if(x0 >= x1) return true;
+
+		final int FIRST = x0 >>> 6, LAST = (x1 - 1) >>> 6;
+		final int ROW = y * wordsPerRow;
+		for(int w = FIRST; w <= LAST; w++)
+			if((bits[ROW + w] & getMask(w, FIRST, LAST, x0, x1)) != 0)
+				return false;
+		return true;
+	}
+
+	/**
+	 * Checks that a span of a row is made of solid tiles only.
+	 *
+	 * @param y  The row.
+	 * @param x0 The first column. (inclusive)
+	 * @param x1 The last column. (exclusive)
+	 * @return True if every tile is solid. Tiles outside the level are not.
+	 */
+	public boolean isSpanSolid(int y, int x0, int x1) {
+		if(x0 >= x1) return true;
+		if(y < 0 || y >= height || x0 < 0 || x1 > width) return false;
+
+		final int FIRST = x0 >>> 6, LAST = (x1 - 1) >>> 6;
+		final int ROW = y * wordsPerRow;
+		for(int w = FIRST; w <= LAST; w++) {
+			long mask = getMask(w, FIRST, LAST, x0, x1);
+			if((bits[ROW + w] & mask) != mask)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return The bits of a word that fall within the span of columns x0 to x1.
+	 */
+	private static long getMask(int w, int first, int last, int x0, int x1) {
+		long mask = -1L;
+		if(w == first) mask &= -1L << (x0 & 63);
+		if(w == last)  mask &= -1L >>> (63 - ((x1 - 1) & 63));
+		return mask;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+}
@@ -5,6 +5,7 @@ import entities.Player;
 import entities.enemies.Flower;
 import entities.enemies.Goblin;
 import entities.enemies.Slime;
+import entities.enemies.SlimeStore;
 import game.Game;
 import game.states.Playing;
 import matter.Container;
@@ -13,15 +14,14 @@ import matter.Trap;
 import matter.containers.Crate;
 import matter.items.Diamond;
 import matter.traps.ThornFence;
-import sprites.Animation;
+import sprites.TextureAtlas;
+import utils.Hitbox;
 import utils.Location;
+import utils.SpatialGrid;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static game.Game.*;
@@ -37,38 +37,67 @@ public class Level {
 
 	private final int id;
 	private final LevelStyle style;
-	private Map<LevelLayer, int[][]> data;
+	private final LevelData data;
+	private final LevelStreamer streamer; /* only set for levels too wide to keep in memory */
 
-	private int offsetX;
-	private final int maxTilesOffset;
+	private final Camera camera;
+	private final TileChunkCache tileCache;
 	public final int LT_BORDER = (int) (0.2 * Game.GAME_WIDTH);
 	public final int RT_BORDER = (int) (0.8 * Game.GAME_WIDTH);
-
-	private final BufferedImage background, largeMountain, smallMountain, mountainShadow;
-	private List<Item> items;
-	private List<Trap> traps;
-	private List<Container> containers;
-	private List<Hostile> enemies;
+	private final static int DRAW_MARGIN = 2 * TILES_SIZE;   /* sprites are drawn wider than their hitboxes */
+	/* levels with more slimes keep them in a SlimeStore, -Ddd.slimeStoreThreshold=0 uses one for any slimes */
+	public final static int SLIME_STORE_THRESHOLD = Integer.getInteger("dd.slimeStoreThreshold", 256);
+	private final static int ACTIVE_MARGIN = 4 * TILES_SIZE; /* how far past the edges of the screen things are kept going, the rest sleep */
+
+	private final StyleAssets assets;
+	private final ParallaxBackground background;
+	private SpatialGrid<Item> items;
+	private SpatialGrid<Trap> traps;
+	private SpatialGrid<Container> containers;
+	private SpatialGrid<Hostile> enemies;
+	private final SlimeStore slimes; /* only set for levels with more slimes than are worth keeping as objects */
+
+	/* Filled by each query on the grids above, so nothing is allocated per tick. */
+	private final List<Item> nearbyItems = new ArrayList<>();
+	private final List<Trap> nearbyTraps = new ArrayList<>();
+	private final List<Container> nearbyContainers = new ArrayList<>();
+	private final List<Hostile> nearbyEnemies = new ArrayList<>();
+	private final List<Hostile> awakeEnemies = new ArrayList<>();
+	private final List<Hostile> sightedEnemies = new ArrayList<>(); /* only touched by update(), so their flags are always cleared */
+
+	/* Objects placed by the spawns layer, by the tile they came from, so streamed chunks don't spawn them twice. */
+	private final Map<Object, Integer> origins;
+	private final Set<Integer> alive, consumed;
 
 	private Location spawn;
 	private int totalDiamonds;
 	private boolean complete;
 
-	public Level(LevelManager levelManager, int id, LevelStyle style, Map<LevelLayer, int[][]> data) {
+	public Level(LevelManager levelManager, LevelData data) {
 		this.levelManager = levelManager;
 		this.playing = levelManager.getPlaying();
-		this.id = id;
-		this.style = style;
+		this.id = data.getId();
+		this.style = data.getStyle();
 		this.data = data;
-
-		int tilesWide = data.get(LevelLayer.FOREGROUND)[0].length;
-		maxTilesOffset = (tilesWide - Game.TILES_IN_WIDTH) * Game.TILES_SIZE;
-
-		boolean foggy = ThreadLocalRandom.current().nextBoolean();
-		background     = levelManager.getBackgroundImage(style);
-		largeMountain  = levelManager.getMountainImage(style, true, foggy);
-		smallMountain  = levelManager.getMountainImage(style, false, foggy);
-		mountainShadow = levelManager.getMountainShadowImage(style);
+		this.streamer = data instanceof LevelStreamer ? (LevelStreamer) data : null;
+		this.origins = new IdentityHashMap<>();
+		this.alive = new HashSet<>();
+		this.consumed = new HashSet<>();
+
+		camera = new Camera(data.getWidth());
+		tileCache = new TileChunkCache(this);
+
+		// The player's spawn and the number of diamonds are known up front, even if most of the level is not loaded.
+		int[] slimeCount = new int[1];
+		data.scan(LevelLayer.SPAWNS, (x, y, index) -> {
+			if(index == 0) spawn = new Location(x * TILES_SIZE, y * TILES_SIZE);
+			else if(index == 2) slimeCount[0]++;
+			else if(index == 5) totalDiamonds++;
+		});
+		slimes = slimeCount[0] > SLIME_STORE_THRESHOLD ? new SlimeStore(playing) : null;
+
+		assets     = StyleAssets.acquire(style);
+		background = assets.getBackground(ThreadLocalRandom.current().nextBoolean());
 
 		initialize();
 	}
@@ -77,43 +106,112 @@ public class Level {
 	 * Sets all level attributes and details to their default values.
 	 */
 	private void initialize() {
-		items      = new ArrayList<>();
-		traps      = new ArrayList<>();
-		containers = new ArrayList<>();
-		enemies    = new ArrayList<>();
-		offsetX = 0;
-		totalDiamonds = 0;
+		items      = new SpatialGrid<>(getWidth());
+		traps      = new SpatialGrid<>(getWidth());
+		containers = new SpatialGrid<>(getWidth());
+		enemies    = new SpatialGrid<>(getWidth());
+		if(slimes != null) slimes.clear();
+		origins.clear();
+		alive.clear();
+		consumed.clear();
+		camera.reset();
 		complete = false;
-		loadSpawns();
+
+		if(streamer == null) loadSpawns(0, getWidth());
+		else {
+			streamer.reset(camera.getFirstColumn(), camera.getLastColumn());
+			tileCache.releaseNonResident(); /* tiles never change, chunks still in memory keep their baked images */
+			streamer.update(camera.getFirstColumn(), camera.getLastColumn(), this::loadChunk, this::unloadChunk);
+		}
 	}
 
 	/**
-	 * Updates all enemies in the level.
+	 * Updates the enemies around the screen, and the matter near the player.
+	 * Enemies further away sleep where they are and carry on exactly
+	 * from there once the screen comes close enough to wake them.
 	 */
 	public void update() {
-		for(int i = 0; i < items.size(); i++)
-			items.get(i).update();
+		levelManager.getAnimationClock().tick();
+		if(streamer != null) streamer.update(camera.getFirstColumn(), camera.getLastColumn(), this::loadChunk, this::unloadChunk);
+		camera.savePosition();
+		Player player = playing.getPlayer();
+		player.savePosition();
+		List<Hostile> awake = enemies.query(getActiveX0(), getActiveX1(), awakeEnemies);
+		awake.forEach(Hostile::savePosition);
+
+		// Items and traps only do something when the player touches them.
+		for(Item item : items.query(player, nearbyItems))
+			item.update();
 
-		for(int i = 0; i < traps.size(); i++)
-			traps.get(i).update();
+		for(Trap trap : traps.query(player, nearbyTraps))
+			trap.update();
 
-		for(int i = 0; i < containers.size(); i++)
-			containers.get(i).update();
+		// Containers are opened by the player's attack, then finish opening even if left behind.
+		for(Container container : containers.query(getActiveX0(), getActiveX1(), nearbyContainers))
+			container.update();
 
-		Iterator<Hostile> it = enemies.iterator();
-		while(it.hasNext()) {
-			Hostile enemy = it.next();
-			if(enemy.isActive())
+		// Only enemies that could see the player look for them, the rest keep to their patrol.
+		final double SIGHT = Hostile.MAX_SIGHT_DISTANCE;
+		for(Hostile enemy : enemies.query(player.getX() - SIGHT, player.getX() + player.getWidth() + SIGHT, sightedEnemies))
+			enemy.setNearPlayer(true);
+
+		for(Hostile enemy : awake) {
+			if(enemy.isActive()) {
 				enemy.update();
-			else it.remove();
+				enemies.move(enemy);
+			} else {
+				enemies.remove(enemy);
+				consume(enemy);
+			}
 		}
+		sightedEnemies.forEach(enemy -> enemy.setNearPlayer(false));
+
+		if(slimes != null) slimes.update(getActiveX0(), getActiveX1(), this::consumeSpawn);
+	}
+
+	/**
+	 * Advances the animations of everything around the screen by one tick.
+	 */
+	public void updateAnimations() {
+		final double X0 = getActiveX0(), X1 = getActiveX1();
+		items.query(X0, X1, nearbyItems).forEach(Item::updateAnimation);
+		containers.query(X0, X1, nearbyContainers).forEach(Container::updateAnimation);
+		enemies.query(X0, X1, nearbyEnemies).forEach(Hostile::updateAnimation);
+		if(slimes != null) slimes.updateAnimations(X0, X1);
+	}
+
+	/**
+	 * @return The left edge of the area around the screen that is kept awake.
+	 */
+	private double getActiveX0() {
+		return camera.getFirstColumn() * TILES_SIZE - ACTIVE_MARGIN;
+	}
+
+	/**
+	 * @return The right edge of the area around the screen that is kept awake.
+	 */
+	private double getActiveX1() {
+		return camera.getLastColumn() * TILES_SIZE + ACTIVE_MARGIN;
+	}
+
+	/**
+	 * Finds the enemies within a horizontal range, such as
+	 * the reach of the player's and enemies' attacks.
+	 *
+	 * @param x0 The left edge of the range.
+	 * @param x1 The right edge of the range.
+	 * @return The enemies, only valid until the next query.
+	 */
+	public List<Hostile> getEnemiesNear(double x0, double x1) {
+		return enemies.query(x0, x1, nearbyEnemies);
 	}
 
 	/**
-	 * Re-initializes level values & reloads tile data.
+	 * Re-initializes level values. Tiles come from an immutable
+	 * template, so they and their baked chunks are kept as they are.
+	 * Only called from the game loop's thread.
 	 */
 	public void reset() {
-		data = levelManager.loadLevelData(id);
 		initialize();
 		Player player = playing.getPlayer();
 		player.reset();
@@ -122,105 +220,115 @@ public class Level {
 	}
 
 	/**
-	 * Draws necessary tiles and backgrounds to level.
-	 *
-	 * @param g The graphics context.
+	 * Releases what the level holds on to once it will not be played
+	 * anymore: its baked tiles and its use of the style's assets.
 	 */
-	public void draw(Graphics g) {
-		// Background
-		drawBackground(g, background, largeMountain, mountainShadow, smallMountain, offsetX);
-
-		// Tiles, Matter, and Entities
-		for (LevelLayer layer : LevelLayer.values()) {
-			if (layer.equals(LevelLayer.SPAWNS)) {
-				containers.forEach(c -> c.draw(g));
-				items.forEach(i -> i.draw(g));
-				traps.forEach(t -> t.draw(g));
-				enemies.forEach(e -> e.draw(g));
-				playing.getPlayer().draw(g);
-			} else drawLayer(g, layer);
-		}
+	public void dispose() {
+		tileCache.clear();
+		StyleAssets.release(style);
 	}
 
 	/**
-	 * Draws the complete background of a level.
+	 * Draws necessary tiles and backgrounds to level.
 	 *
-	 * @param g  The graphics context.
-	 * @param bg The background image.
-	 * @param lm The large mountain image.
-	 * @param ms The mountain shadow image.
-	 * @param sm The small mountain image.
+	 * @param g The graphics context.
 	 */
-	public void drawBackground(Graphics g, BufferedImage bg, BufferedImage lm, BufferedImage ms, BufferedImage sm, int offsetX) {
-		final int LM_WIDTH = (int) (lm.getWidth() * SCALE);
-		final int MS_WIDTH = (int) (ms.getWidth() * SCALE);
-		final int SM_WIDTH = (int) (sm.getWidth() * SCALE);
-
-		g.drawImage(bg, 0, 0, GAME_WIDTH, GAME_HEIGHT, null);
-		for(int i = 0; i < 3; i++) {
-			g.drawImage(lm, i * LM_WIDTH - (int) (offsetX * 0.3), (int) (85 * SCALE),  LM_WIDTH, (int) (largeMountain.getHeight()  * SCALE), null);
-			g.drawImage(ms, i * MS_WIDTH - (int) (offsetX * 0.5), (int) (70 * SCALE),  MS_WIDTH, (int) (mountainShadow.getHeight() * SCALE), null);
-			g.drawImage(sm, i * SM_WIDTH - (int) (offsetX * 0.7), (int) (168 * SCALE), SM_WIDTH, (int) (smallMountain.getHeight()  * SCALE), null);
-		}
+	public void draw(Graphics g) {
+		camera.interpolate(playing.getInterpolation());
+
+		// Background
+		background.draw(g, camera.getRenderOffsetX());
+
+		// Static tiles are baked into chunks, only animated tiles are drawn one by one.
+		tileCache.draw(g, TileChunkCache.BEHIND);
+
+		// Matter and Entities, only those around the frame
+		final double X0 = camera.getFirstVisibleColumn() * TILES_SIZE - DRAW_MARGIN;
+		final double X1 = camera.getLastVisibleColumn() * TILES_SIZE + DRAW_MARGIN;
+		containers.query(X0, X1, nearbyContainers).forEach(c -> c.draw(g));
+		items.query(X0, X1, nearbyItems).forEach(i -> i.draw(g));
+		traps.query(X0, X1, nearbyTraps).forEach(t -> t.draw(g));
+		enemies.query(X0, X1, nearbyEnemies).forEach(e -> e.draw(g));
+		if(slimes != null) slimes.draw(g, X0, X1);
+		playing.getPlayer().draw(g);
+
+		tileCache.draw(g, TileChunkCache.IN_FRONT);
+		drawLayer(g, LevelLayer.WATER);
 	}
 
 	/**
-	 * Draw all tiles for a specific layer.
+	 * Draw all tiles for a specific layer that are within view of the camera.
 	 *
 	 * @param g     The graphics context.
 	 * @param layer The layer to be drawn.
 	 */
 	private void drawLayer(Graphics g, LevelLayer layer) {
+		final int FIRST = camera.getFirstVisibleColumn();
+		final int LAST = camera.getLastVisibleColumn();
+		final int OFFSET = camera.getRenderOffsetX();
+
 		for(int h = 0; h < TILES_IN_HEIGHT; h++) {
-			for(int w = 0; w < getWidth(); w++) {
-				int x = w * TILES_SIZE - offsetX;
+			for(int w = FIRST; w < LAST; w++) {
+				int x = w * TILES_SIZE - OFFSET;
 				int y = h * TILES_SIZE;
 
 				int index = getTileIndex(layer, w, h);
 				if(index < 0)continue;
-				Image image = levelManager.getTile(style, layer, index);
-				Animation animation = levelManager.getTileAnimation(layer, index);
-				if(image == null && animation == null) continue;
-				g.drawImage(animation != null ? animation.getCurrentImage(levelManager.getPlaying()) : image, x, y, TILES_SIZE, TILES_SIZE, null);
+				TextureAtlas.draw(g, levelManager.getTileFrame(style, layer, index), x, y, TILES_SIZE, TILES_SIZE);
 			}
 		}
 	}
 
 	/**
-	 * Determines location for all spawns, entities, traps
-	 * and other types of matter.
+	 * Determines location for all entities, traps and other types
+	 * of matter within a range of columns. Anything already in play,
+	 * or that was collected or killed, is not spawned again.
+	 *
+	 * @param x0 The first column. (inclusive)
+	 * @param x1 The last column. (exclusive)
 	 */
-	private void loadSpawns() {
-		int[][] itemData = data.get(LevelLayer.SPAWNS);
-		for(int h = 0; h < itemData.length; h++) {
-			for(int w = 0; w < itemData[h].length; w++) {
-				int index = itemData[h][w];
-				if(index < 0)continue;
+	private void loadSpawns(int x0, int x1) {
+		for(int h = 0; h < data.getHeight(); h++) {
+			for(int w = x0; w < x1; w++) {
+				int index = data.getTile(LevelLayer.SPAWNS, w, h);
+				if(index < 1)continue;
+				int cell = h * getWidth() + w;
+				if(alive.contains(cell) || consumed.contains(cell))continue;
 				int x = w * TILES_SIZE, y = h * TILES_SIZE;
 
-				switch (index) {
-					case 0 -> spawn = new Location(x, y);
+				if(index == 2 && slimes != null) {
+					slimes.add(x, y, cell);
+					alive.add(cell);
+					continue;
+				}
+				Object spawned = switch (index) {
 					case 1 -> enemies.add(new Goblin(playing, x, y));
 					case 2 -> enemies.add(new Slime(playing, x, y));
 					case 3 -> enemies.add(new Flower(playing, x, y));
 					case 4 -> containers.add(new Crate(playing, x, y));
-					case 5 -> items.add(new Diamond(playing, this, x, y));
-				}
+					case 5 -> items.add(new Diamond(playing, x, y));
+					default -> null;
+				};
+				if(spawned == null)continue;
+				origins.put(spawned, cell);
+				alive.add(cell);
 			}
 		}
 
-		loadTraps();
+		loadTraps(x0, x1);
 	}
 
 	/**
 	 * The only traps are flora-based (natural), so they are
 	 * loaded based on tiles within that layer.
+	 *
+	 * @param x0 The first column. (inclusive)
+	 * @param x1 The last column. (exclusive)
 	 */
-	private void loadTraps() {
-		int[][] trapData = data.get(LevelLayer.FLORA);
-		for(int h = 0; h < trapData.length; h++) {
-			for(int w = 0; w < trapData[h].length; w++) {
-				int index = trapData[h][w];
+	private void loadTraps(int x0, int x1) {
+		for(int h = 0; h < data.getHeight(); h++) {
+			for(int w = x0; w < x1; w++) {
+				int index = data.getTile(LevelLayer.FLORA, w, h);
 				if(index == 71 || index == 79) {
 					int x = w * TILES_SIZE, y = h * TILES_SIZE;
 					traps.add(new ThornFence(playing, x, y, index == 71));
@@ -229,6 +337,71 @@ public class Level {
 		}
 	}
 
+	/**
+	 * Spawns everything within a chunk that was just streamed in.
+	 *
+	 * @param chunk The chunk.
+	 */
+	private void loadChunk(LevelChunk chunk) {
+		loadSpawns(chunk.getX(), chunk.getX() + chunk.getWidth());
+	}
+
+	/**
+	 * Removes everything within a chunk that was just evicted, along
+	 * with its baked tiles. Spawns that are removed this way come back
+	 * if the chunk is loaded again.
+	 *
+	 * @param chunk The chunk.
+	 */
+	private void unloadChunk(LevelChunk chunk) {
+		final double X0 = chunk.getX() * TILES_SIZE, X1 = (chunk.getX() + chunk.getWidth()) * TILES_SIZE;
+		items.removeIf(i -> evict(i, X0, X1));
+		traps.removeIf(t -> evict(t, X0, X1));
+		containers.removeIf(c -> evict(c, X0, X1));
+		enemies.removeIf(e -> evict(e, X0, X1));
+		if(slimes != null) slimes.removeIf(i -> evict(slimes.getX(i), slimes.getOrigin(i), X0, X1));
+		tileCache.release(chunk.getX(), chunk.getX() + chunk.getWidth());
+	}
+
+	/**
+	 * @return True if the object was within the range and has been forgotten.
+	 */
+	private boolean evict(Hitbox object, double x0, double x1) {
+		if(object.getX() < x0 || object.getX() >= x1)return false;
+		Integer cell = origins.remove(object);
+		if(cell != null) alive.remove(cell);
+		return true;
+	}
+
+	/**
+	 * @return True if the spawn was within the range and has been forgotten.
+	 */
+	private boolean evict(double x, int cell, double x0, double x1) {
+		if(x < x0 || x >= x1)return false;
+		alive.remove(cell);
+		return true;
+	}
+
+	/**
+	 * Marks a spawned object as gone for good, so it is never spawned again.
+	 *
+	 * @param object The object that was collected, destroyed or killed.
+	 */
+	private void consume(Object object) {
+		Integer cell = origins.remove(object);
+		if(cell != null) consumeSpawn(cell);
+	}
+
+	/**
+	 * Marks a spawn as gone for good, for enemies that are not objects of their own.
+	 *
+	 * @param cell The tile the spawn came from.
+	 */
+	private void consumeSpawn(int cell) {
+		alive.remove(cell);
+		consumed.add(cell);
+	}
+
 	/**
 	 * Adds an item to the map.
 	 *
@@ -245,6 +418,7 @@ public class Level {
 	 */
 	public void removeItem(Item item) {
 		items.remove(item);
+		consume(item);
 	}
 
 	/**
@@ -254,10 +428,7 @@ public class Level {
 	 */
 	public void destroyContainer(Container container) {
 		containers.remove(container);
-	}
-
-	public void addDiamond() {
-		totalDiamonds++;
+		consume(container);
 	}
 
 	public int getTotalDiamonds() {
@@ -288,15 +459,39 @@ public class Level {
 		if(calcTile) {
 			if(x < 0 || x >= (getWidth() * TILES_SIZE)) return true;
 			if(y < 0 || y >= Game.GAME_HEIGHT) return true;
+			return data.isSolid(x / TILES_SIZE, y / TILES_SIZE);
 		}
-		int index = getTileIndex(LevelLayer.FOREGROUND, x, y, calcTile);
-		return !getStyle().isNonSolid(index);
+		return data.isSolid(x, y);
 	}
 
 	public boolean isSolid(double px, double py) {
 		return isSolid(px, py, true);
 	}
 
+	/**
+	 * Checks a span of tiles within a row for solid tiles.
+	 *
+	 * @param row The tile row.
+	 * @param x0  The first tile column. (inclusive)
+	 * @param x1  The last tile column. (exclusive)
+	 * @return True if none of the tiles are solid.
+	 */
+	public boolean isSpanClear(int row, int x0, int x1) {
+		return data.isSpanClear(row, x0, x1);
+	}
+
+	/**
+	 * Checks that a span of tiles within a row are all solid.
+	 *
+	 * @param row The tile row.
+	 * @param x0  The first tile column. (inclusive)
+	 * @param x1  The last tile column. (exclusive)
+	 * @return True if every tile is solid.
+	 */
+	public boolean isSpanSolid(int row, int x0, int x1) {
+		return data.isSpanSolid(row, x0, x1);
+	}
+
 	/**
 	 * Get the index of a tile at a specific location within a specific layer.
 	 *
@@ -306,11 +501,8 @@ public class Level {
 	 * @return An integer that determines which tile will be placed.
 	 */
 	public int getTileIndex(LevelLayer layer, int x, int y, boolean calcTile) {
-		int index = -1;
-		try {
-			index = data.get(layer)[calcTile ? y / TILES_SIZE : y][calcTile ? x / TILES_SIZE : x];
-		} catch (ArrayIndexOutOfBoundsException ignored) {}
-		return index;
+		if(calcTile) return data.getTile(layer, x / TILES_SIZE, y / TILES_SIZE);
+		return data.getTile(layer, x, y);
 	}
 
 	public int getTileIndex(LevelLayer layer, int x, int y) {
@@ -318,24 +510,40 @@ public class Level {
 	}
 
 	public void addToOffsetX(int value) {
-		offsetX += value;
-		maintainOffsetConstraints();
+		camera.addToOffsetX(value);
 	}
 
-	private void maintainOffsetConstraints() {
-		if(offsetX > maxTilesOffset) offsetX = maxTilesOffset;
-		else if(offsetX < 0) offsetX = 0;
+	public int getOffsetX() {
+		return camera.getOffsetX();
 	}
 
-	public int getOffsetX() {
-		return offsetX;
+	/**
+	 * @return The camera offset of the frame being drawn, between the last two ticks.
+	 */
+	public int getRenderOffsetX() {
+		return camera.getRenderOffsetX();
+	}
+
+	public Camera getCamera() {
+		return camera;
+	}
+
+	public TileChunkCache getTileCache() {
+		return tileCache;
 	}
 
 	/**
 	 * @return The max width of the level (includes offscreen).
 	 */
 	public int getWidth() {
-		return data.get(LevelLayer.FOREGROUND)[0].length;
+		return data.getWidth();
+	}
+
+	/**
+	 * @return The tiles of the level, which may only be partly in memory.
+	 */
+	public LevelData getData() {
+		return data;
 	}
 
 	public LevelStyle getStyle() {
@@ -350,8 +558,18 @@ public class Level {
 		return spawn;
 	}
 
+	/**
+	 * @return Every enemy in play, near the player or not.
+	 */
 	public List<Hostile> getEnemies() {
-		return enemies;
+		return enemies.getAll();
+	}
+
+	/**
+	 * @return The slimes kept apart from the other enemies, or null if the level has few enough to be objects.
+	 */
+	public SlimeStore getSlimes() {
+		return slimes;
 	}
 
 	public int getId() {
@@ -0,0 +1,64 @@
+package levels;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class LevelChunk {
+
+	private final int index, x, width;
+	private final Map<LevelLayer, TileGrid> layers;
+	private final CollisionMap collision;
+
+	/**
+	 * A vertical slice of a level, loaded and evicted as a whole.
+	 *
+	 * @param index  The chunk number, counting from the left of the level.
+	 * @param x      The first column of the level the chunk covers.
+	 * @param style  The style of the level.
+	 * @param layers The tiles of every layer, in columns relative to the chunk.
+	 */
+	public LevelChunk(int index, int x, LevelStyle style, Map<LevelLayer, TileGrid> layers) {
+		this.index = index;
+		this.x = x;
+		this.layers = Collections.unmodifiableMap(new EnumMap<>(layers));
+		this.collision = new CollisionMap(layers.get(LevelLayer.FOREGROUND), style);
+		this.width = collision.getWidth();
+	}
+
+	/**
+	 * @param layer The layer the tile is in.
+	 * @param x     The column within the level, not the chunk.
+	 * @param y     The row.
+	 * @return The tile index, or {@link TileGrid#EMPTY}.
+	 */
+	public int get(LevelLayer layer, int x, int y) {
+		return layers.get(layer).get(x - this.x, y);
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * @return The first column of the level the chunk covers.
+	 */
+	public int getX() {
+		return x;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * @return The solid tiles of the chunk, in columns relative to the chunk.
+	 */
+	public CollisionMap getCollisionMap() {
+		return collision;
+	}
+}
@@ -0,0 +1,36 @@
+package levels;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class LevelConverter {
+
+	/**
+	 * Converts a level's properties file into the binary level format,
+	 * writing it next to the original (e.g. "levels/1.properties" becomes "levels/1.lvl").
+	 * The level file keeps a checksum of the original, so an outdated one can be noticed.
+	 *
+	 * @param source The properties file, whose name must be the level number.
+	 * @return The file that was written.
+	 * @throws IOException If the level could not be read or written.
+	 */
+	public static Path convert(Path source) throws IOException {
+		String fileName = source.getFileName().toString();
+		int id = Integer.parseInt(fileName.substring(0, fileName.indexOf('.')));
+
+		byte[] bytes = Files.readAllBytes(source);
+		LevelTemplate template = new LevelParser(id, new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.ISO_8859_1)).parse();
+
+		Path target = source.resolveSibling(id + LevelFormat.EXTENSION);
+		LevelFormat.write(template, target, LevelFormat.checksum(bytes));
+		return target;
+	}
+}
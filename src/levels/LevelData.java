@@ -0,0 +1,78 @@
+package levels;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public interface LevelData {
+
+	int getId();
+
+	LevelStyle getStyle();
+
+	/**
+	 * @return The width of the level in tiles.
+	 */
+	int getWidth();
+
+	/**
+	 * @return The height of the level in tiles.
+	 */
+	int getHeight();
+
+	/**
+	 * @param layer The layer the tile is in.
+	 * @param x     The column.
+	 * @param y     The row.
+	 * @return The tile index, or {@link TileGrid#EMPTY} if there is none or it is not loaded.
+	 */
+	int getTile(LevelLayer layer, int x, int y);
+
+	/**
+	 * @param x The column.
+	 * @param y The row.
+	 * @return True if the tile is solid. Tiles outside the level are not, tiles that are not loaded are.
+	 */
+	boolean isSolid(int x, int y);
+
+	/**
+	 * Checks a span of a row for solid tiles.
+	 *
+	 * @param y  The row.
+	 * @param x0 The first column. (inclusive)
+	 * @param x1 The last column. (exclusive)
+	 * @return True if none of the tiles are solid.
+	 */
+	boolean isSpanClear(int y, int x0, int x1);
+
+	/**
+	 * Checks that a span of a row is made of solid tiles only.
+	 *
+	 * @param y  The row.
+	 * @param x0 The first column. (inclusive)
+	 * @param x1 The last column. (exclusive)
+	 * @return True if every tile is solid.
+	 */
+	boolean isSpanSolid(int y, int x0, int x1);
+
+	/**
+	 * @param x The column.
+	 * @return True if the tiles of the column are in memory.
+	 */
+	boolean isResident(int x);
+
+	/**
+	 * Visits every tile of a layer across the whole level, including
+	 * parts that are not in memory. Empty tiles are skipped.
+	 *
+	 * @param layer   The layer to visit.
+	 * @param visitor Called for each tile.
+	 */
+	void scan(LevelLayer layer, TileVisitor visitor);
+
+	interface TileVisitor {
+
+		void visit(int x, int y, int index);
+
+	}
+}
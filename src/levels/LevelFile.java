@@ -0,0 +1,208 @@
+package levels;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class LevelFile {
+
+	private final int id;
+	private final ByteBuffer buffer;
+	private final LevelStyle style;
+	private final int source;
+	private final int width, height, chunkWidth, chunkCount;
+	private final LevelLayer[] layers; /* in the order they are stored, null for layers this version does not know */
+	private final int[] offsets, lengths;
+
+	/**
+	 * Reads the header and chunk table of a binary level file.
+	 * The buffer is kept, and chunks are decoded from it on demand,
+	 * which may happen on any thread.
+	 *
+	 * @param id     The level number.
+	 * @param buffer The contents of the level file.
+	 * @throws LevelFormatException If the data is not a valid level.
+	 */
+	public LevelFile(int id, ByteBuffer buffer) throws LevelFormatException {
+		this.id = id;
+		this.buffer = buffer;
+
+		try {
+			ByteBuffer in = buffer.duplicate();
+			if(in.getInt() != LevelFormat.MAGIC) throw error("not a level file");
+			int version = in.get();
+			if(version != LevelFormat.VERSION) throw error("unsupported version " + version);
+			source = in.getInt();
+
+			String styleName = LevelFormat.readString(in);
+			style = LevelStyle.getStyle(styleName);
+			if(style == null) throw error("unknown style '" + styleName + "'");
+
+			width = in.getInt();
+			height = in.getInt();
+			chunkWidth = in.getInt();
+			if(width <= 0 || height <= 0 || chunkWidth <= 0) throw error("invalid size " + width + "x" + height);
+
+			int layerCount = Byte.toUnsignedInt(in.get());
+			if(layerCount != LevelLayer.values().length) throw error("expected " + LevelLayer.values().length + " layers but found " + layerCount);
+			layers = new LevelLayer[layerCount];
+			for(int i = 0; i < layers.length; i++)
+				layers[i] = getLayer(LevelFormat.readString(in));
+			for(LevelLayer layer : LevelLayer.values())
+				if(indexOf(layer) < 0) throw error("missing layer '" + layer.getName() + "'");
+
+			chunkCount = in.getInt();
+			if(chunkCount != (width + chunkWidth - 1) / chunkWidth) throw error("expected " + ((width + chunkWidth - 1) / chunkWidth) + " chunks but found " + chunkCount);
+
+			offsets = new int[chunkCount * layers.length];
+			lengths = new int[offsets.length];
+			for(int i = 0; i < offsets.length; i++) {
+				offsets[i] = in.getInt();
+				lengths[i] = in.getInt();
+				if(offsets[i] < 0 || lengths[i] < 0 || offsets[i] > buffer.limit() - lengths[i])
+					throw error("chunk " + (i / layers.length) + " is out of bounds");
+			}
+		} catch (BufferUnderflowException e) {
+			throw error("unexpected end of file");
+		}
+	}
+
+	/**
+	 * Decodes every layer of a chunk.
+	 *
+	 * @param chunk The chunk number, counting from the left of the level.
+	 * @return The decoded chunk.
+	 * @throws LevelFormatException If the chunk's data is malformed.
+	 */
+	public LevelChunk loadChunk(int chunk) throws LevelFormatException {
+		Map<LevelLayer, TileGrid> data = new EnumMap<>(LevelLayer.class);
+		for(LevelLayer layer : LevelLayer.values())
+			data.put(layer, loadLayer(chunk, layer));
+		return new LevelChunk(chunk, chunk * chunkWidth, style, data);
+	}
+
+	/**
+	 * Decodes a single layer of a chunk.
+	 *
+	 * @param chunk The chunk number, counting from the left of the level.
+	 * @param layer The layer to decode.
+	 * @return The tiles of the layer, in columns relative to the chunk.
+	 * @throws LevelFormatException If the chunk's data is malformed.
+	 */
+	public TileGrid loadLayer(int chunk, LevelLayer layer) throws LevelFormatException {
+		if(chunk < 0 || chunk >= chunkCount) throw new IndexOutOfBoundsException("Chunk " + chunk + " of " + chunkCount);
+		int w = getChunkWidth(chunk);
+		int entry = chunk * layers.length + indexOf(layer);
+
+		ByteBuffer data = buffer.duplicate();
+		data.limit(offsets[entry] + lengths[entry]).position(offsets[entry]);
+
+		short[] tiles = new short[w * height];
+		int i = 0;
+		try {
+			while(data.hasRemaining()) {
+				int run = LevelFormat.readVarInt(data), value = run < 0 ? 0 : LevelFormat.readVarInt(data) - 1;
+				if(run <= 0 || run > tiles.length - i) throw error(layer, chunk, i, w, "an invalid run");
+				if(value < TileGrid.EMPTY || value > Short.MAX_VALUE) throw error(layer, chunk, i, w, "an invalid tile index");
+				for(int end = i + run; i < end; i++)
+					tiles[i] = (short) value;
+			}
+		} catch (BufferUnderflowException e) {
+			throw error(layer, chunk, i, w, "a truncated run");
+		}
+		if(i != tiles.length) throw error(layer, chunk, i, w, "only " + i + " of " + tiles.length + " tiles");
+		return new TileGrid(w, height, tiles);
+	}
+
+	/**
+	 * Decodes the whole level at once.
+	 *
+	 * @return The level's template.
+	 * @throws LevelFormatException If any chunk is malformed.
+	 */
+	public LevelTemplate toTemplate() throws LevelFormatException {
+		Map<LevelLayer, TileGrid> data = new EnumMap<>(LevelLayer.class);
+		for(LevelLayer layer : LevelLayer.values()) {
+			TileGrid grid = new TileGrid(width, height);
+			for(int c = 0; c < chunkCount; c++) {
+				TileGrid part = loadLayer(c, layer);
+				for(int h = 0; h < height; h++)
+					for(int w = 0; w < part.getWidth(); w++)
+						grid.set(c * chunkWidth + w, h, part.get(w, h));
+			}
+			data.put(layer, grid);
+		}
+		return new LevelTemplate(id, style, data);
+	}
+
+	/**
+	 * @param chunk The chunk number.
+	 * @return The number of columns in the chunk, the last may be narrower than the rest.
+	 */
+	public int getChunkWidth(int chunk) {
+		return Math.min(chunkWidth, width - chunk * chunkWidth);
+	}
+
+	private int indexOf(LevelLayer layer) {
+		for(int i = 0; i < layers.length; i++)
+			if(layers[i] == layer)
+				return i;
+		return -1;
+	}
+
+	private static LevelLayer getLayer(String name) {
+		for(LevelLayer layer : LevelLayer.values())
+			if(layer.getName().equals(name))
+				return layer;
+		return null;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public LevelStyle getStyle() {
+		return style;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * @return The number of columns in every chunk but the last.
+	 */
+	public int getChunkWidth() {
+		return chunkWidth;
+	}
+
+	public int getChunkCount() {
+		return chunkCount;
+	}
+
+	/**
+	 * @return The checksum of the properties file this was converted from.
+	 */
+	public int getSource() {
+		return source;
+	}
+
+	// Errors
+
+	private LevelFormatException error(String message) {
+		return new LevelFormatException("Level " + id + ": " + message);
+	}
+
+	private LevelFormatException error(LevelLayer layer, int chunk, int tile, int chunkWidth, String message) {
+		return error("layer '" + layer.getName() + "' has " + message + " at " + (chunk * this.chunkWidth + tile % chunkWidth) + ", " + (tile / chunkWidth));
+	}
+}
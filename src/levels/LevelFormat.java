@@ -0,0 +1,196 @@
+package levels;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class LevelFormat {
+
+	public final static String EXTENSION = ".lvl";
+	public final static int MAGIC = 0x44444C56; /* "DDLV" */
+	public final static int VERSION = 3;
+	public final static int CHUNK_WIDTH = 64; /* in tiles */
+
+	/*
+	 * Layout, big-endian:
+	 *   int    magic
+	 *   byte   version
+	 *   int    checksum of the properties file it was converted from, see {@link #checksum(byte[])}
+	 *   string style
+	 *   int    width, height, chunk width
+	 *   byte   layer count, then the name of each layer
+	 *   int    chunk count
+	 *   per chunk, per layer: int offset from the start of the file, int length in bytes
+	 *   layer data, each a list of runs: varint length, varint (tile index + 1)
+	 * Every chunk covers the full height and chunk width columns, except the
+	 * last which may be narrower. Its tiles are stored row by row.
+	 * Strings are a byte length followed by ASCII characters.
+	 */
+
+	/**
+	 * Maps a level file into memory. The file is not copied onto
+	 * the heap, chunks are only decoded when they are asked for.
+	 *
+	 * @param id   The level number.
+	 * @param path The level file.
+	 * @return The opened level file.
+	 * @throws IOException If the file could not be read or is malformed.
+	 */
+	public static LevelFile map(int id, Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return new LevelFile(id, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	/**
+	 * Decodes an entire level from its binary form.
+	 *
+	 * @param id     The level number.
+	 * @param buffer The contents of the level file.
+	 * @return The level's template.
+	 * @throws LevelFormatException If the data is not a valid level.
+	 */
+	public static LevelTemplate read(int id, ByteBuffer buffer) throws LevelFormatException {
+		return new LevelFile(id, buffer).toTemplate();
+	}
+
+	/**
+	 * Encodes a level into its binary form.
+	 *
+	 * @param template   The level to encode.
+	 * @param chunkWidth The number of columns in each chunk.
+	 * @param source     The checksum of the file the level was read from.
+	 * @return The contents of the level file.
+	 */
+	public static byte[] write(LevelTemplate template, int chunkWidth, int source) {
+		int width = template.getWidth(), height = template.getHeight();
+		int chunkCount = (width + chunkWidth - 1) / chunkWidth;
+
+		LevelLayer[] layers = LevelLayer.values();
+		byte[][] encoded = new byte[chunkCount * layers.length][];
+		for(int c = 0; c < chunkCount; c++) {
+			int x0 = c * chunkWidth, x1 = Math.min(width, x0 + chunkWidth);
+			for(int i = 0; i < layers.length; i++)
+				encoded[c * layers.length + i] = encodeLayer(template.getLayers().get(layers[i]), x0, x1, height);
+		}
+
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeInt(MAGIC);
+			out.writeByte(VERSION);
+			out.writeInt(source);
+			writeString(out, template.getStyle().getName());
+			out.writeInt(width);
+			out.writeInt(height);
+			out.writeInt(chunkWidth);
+			out.writeByte(layers.length);
+			for(LevelLayer layer : layers) writeString(out, layer.getName());
+			out.writeInt(chunkCount);
+
+			int offset = out.size() + encoded.length * 8;
+			for(byte[] data : encoded) {
+				out.writeInt(offset);
+				out.writeInt(data.length);
+				offset += data.length;
+			}
+			for(byte[] data : encoded) out.write(data);
+			return bytes.toByteArray();
+		} catch (IOException e) {
+			throw new IllegalStateException(e); /* in-memory streams do not fail */
+		}
+	}
+
+	/**
+	 * Writes a level file to disk.
+	 *
+	 * @param template The level to encode.
+	 * @param path     Where the file will be written.
+	 * @param source   The checksum of the file the level was read from.
+	 * @throws IOException If the file could not be written.
+	 */
+	public static void write(LevelTemplate template, Path path, int source) throws IOException {
+		Files.write(path, write(template, CHUNK_WIDTH, source));
+	}
+
+	/**
+	 * Sums up the contents of a level's properties file. A level file
+	 * holding a different checksum was converted from an older version.
+	 *
+	 * @param source The contents of the properties file.
+	 * @return The checksum.
+	 */
+	public static int checksum(byte[] source) {
+		CRC32 crc = new CRC32();
+		crc.update(source);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * Run-length encodes a range of columns of a layer, row by row.
+	 */
+	private static byte[] encodeLayer(TileGrid grid, int x0, int x1, int height) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int run = 0, previous = 0;
+		for(int h = 0; h < height; h++) {
+			for(int w = x0; w < x1; w++) {
+				int value = grid.get(w, h) + 1;
+				if(run > 0 && value != previous) {
+					writeVarInt(out, run);
+					writeVarInt(out, previous);
+					run = 0;
+				}
+				previous = value;
+				run++;
+			}
+		}
+		if(run > 0) {
+			writeVarInt(out, run);
+			writeVarInt(out, previous);
+		}
+		return out.toByteArray();
+	}
+
+	// Primitives
+
+	private static void writeVarInt(ByteArrayOutputStream out, int value) {
+		while((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	static int readVarInt(ByteBuffer buffer) {
+		int value = 0;
+		for(int shift = 0; shift < 32; shift += 7) {
+			byte b = buffer.get();
+			value |= (b & 0x7F) << shift;
+			if(b >= 0) return value;
+		}
+		return -1; /* too long, rejected by the caller */
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+		out.writeByte(bytes.length);
+		out.write(bytes);
+	}
+
+	static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.get() & 0xFF];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.US_ASCII);
+	}
+}
@@ -0,0 +1,16 @@
+package levels;
+
+import java.io.IOException;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class LevelFormatException extends IOException {
+
+	private static final long serialVersionUID = 1L;
+
+	public LevelFormatException(String message) {
+		super(message);
+	}
+}
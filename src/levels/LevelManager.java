@@ -2,19 +2,28 @@ package levels;
 
 import game.Game;
 import game.states.Playing;
-import sprites.Animation;
+import sprites.AnimationClock;
+import sprites.TextureAtlas;
+import utils.ResourceManifest;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URI;
+import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.List;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
 
 import static game.Game.TILES_DEFAULT_SIZE;
 
@@ -25,25 +34,42 @@ import static game.Game.TILES_DEFAULT_SIZE;
 public class LevelManager {
 
 	private final Playing playing;
-	private final Map<LevelStyle, BufferedImage[]> backgrounds;
-	private final Map<LevelStyle, Image[]> foregroundTiles;
-	public Image[] midGroundTiles, floraTiles, decorTiles;
+	public int[] midGroundTiles, floraTiles, decorTiles; /* atlas ids */
 
-	public int MAX_TILES_PER_SHEET;
 	private final Map<LevelLayer, TileAnimations> animations;
-
-	private List<Level> levels;
+	private final AnimationClock animationClock;
+
+	/* levels wider than this, in tiles, are streamed in chunks, -Ddd.streamingWidth=0 streams every level */
+	public final static int STREAMING_WIDTH = Integer.getInteger("dd.streamingWidth", 512);
+
+	private List<Integer> levelIds;
+	private final Map<Integer, LevelTemplate> templates;
+	private final Map<Integer, LevelFile> files;
+	private final Set<Integer> outdated; /* levels whose level file is older than their properties file */
+	private final ExecutorService loader;
+	private final ExecutorService chunkLoader; /* kept apart, so a preload waiting on the game thread never holds up a chunk */
+	private Level level;
 	private int currentLevel;
 
+	/* The level after the current one, prepared in the background while the current one is played. */
+	private Future<Level> preloaded;
+	private int preloadedIndex = -1;
+
 	public LevelManager(Playing playing) {
 		this.playing = playing;
-		this.foregroundTiles = new HashMap<>();
-		this.backgrounds = new HashMap<>();
 		this.animations = new HashMap<>();
+		this.animationClock = new AnimationClock();
+		this.templates = new ConcurrentHashMap<>();
+		this.files = new ConcurrentHashMap<>();
+		this.outdated = ConcurrentHashMap.newKeySet();
+		this.loader = createLoader("Level Loader");
+		this.chunkLoader = createLoader("Chunk Loader");
 
 		loadResources();
 		loadLevels();
 		currentLevel = 0;
+		if(!levelIds.isEmpty()) level = prepareLevel(levelIds.get(0));
+		preloadNext();
 	}
 
 	/**
@@ -56,70 +82,40 @@ public class LevelManager {
 	}
 
 	/**
-	 * Loads all levels for the game.
+	 * Finds all levels listed in the resource manifest, in order of their number. Levels
+	 * are only loaded once they are about to be played.
+	 * A level may ship as a binary ".lvl" file, a ".properties" file or both.
 	 */
 	public void loadLevels(){
-		levels = new ArrayList<>();
-		URL url = getClass().getResource("/levels/");
-		if (url == null) return;
-
-		if (url.getProtocol().equals("file")) {
-			File levelsDir = new File(url.getPath());
-			File[] files = levelsDir.listFiles();
-			if (files != null) loadLevelFiles(files);
-		} else {
-			try {
-				URI uri = url.toURI();
-				FileSystem fileSystem = FileSystems.newFileSystem(uri, Collections.emptyMap());
-				Path levelsPath = fileSystem.getPath("/levels");
-				try (DirectoryStream<Path> stream = Files.newDirectoryStream(levelsPath, "*.properties")) {
-					for (Path path : stream) {
-						String fileName = path.getFileName().toString();
-						int id = Integer.parseInt(fileName.split("\\.")[0]);
-						levels.add(loadLevel(id));
-					}
-				}
-				Collections.reverse(levels);
-			} catch (URISyntaxException | IOException e) {
-				e.printStackTrace();
-			}
-		}
+		levelIds = new ArrayList<>();
+		Set<Integer> ids = new TreeSet<>();
+		for (String fileName : ResourceManifest.get().list("levels")) addLevelId(ids, fileName);
+		levelIds.addAll(ids);
 	}
 
 	/**
-	 * Loads level files from the specified array of files and adds the levels to the levels list.
-	 * Only files with a ".properties" extension are processed.
+	 * Records the level number of a level file.
+	 * Only files with a ".lvl" or ".properties" extension are processed.
 	 *
-	 * @param files An array of files representing potential level files.
+	 * @param ids      The level numbers found so far.
+	 * @param fileName The name of a file within the levels directory.
 	 */
-	private void loadLevelFiles(File[] files) {
-		for (File file : files) {
-			String[] fn = file.getName().split("\\.");
-			if (!fn[1].equals("properties")) continue;
-			levels.add(loadLevel(Integer.parseInt(fn[0])));
-		}
+	private void addLevelId(Set<Integer> ids, String fileName) {
+		String[] fn = fileName.split("\\.");
+		if (fn.length != 2)return;
+		String extension = "." + fn[1];
+		if (!extension.equals(".properties") && !extension.equals(LevelFormat.EXTENSION))return;
+		try {
+			ids.add(Integer.parseInt(fn[0]));
+		} catch (NumberFormatException ignored) {}
 	}
 
 	/**
-	 * Load tiles & backgrounds for all level styles and
-	 * keeps them in memory to easily build worlds.
+	 * Load the tiles that every level style shares and keeps them in
+	 * memory to easily build worlds. Assets of a single style are
+	 * loaded as levels need them, see {@link StyleAssets#acquire(LevelStyle)}.
 	 */
 	public void loadResources() {
-
-		for(LevelStyle style : LevelStyle.values()) {
-			// Load background
-			loadBackground(style);
-
-
-			// Load tiles
-			final String TILE_DIRECTORY = "tiles/";
-			BufferedImage tileSheet = Game.loadSprite(TILE_DIRECTORY + style.getFileName());
-			if(tileSheet == null)return;
-
-			MAX_TILES_PER_SHEET = (tileSheet.getWidth() / TILES_DEFAULT_SIZE) * (tileSheet.getHeight() / TILES_DEFAULT_SIZE);
-			foregroundTiles.put(style, importTiles(tileSheet));
-		}
-
 		decorTiles     = loadLayerTiles(LevelLayer.DECOR);
 		midGroundTiles = loadLayerTiles(LevelLayer.MIDGROUND);
 		floraTiles     = loadLayerTiles(LevelLayer.FLORA);
@@ -134,22 +130,7 @@ public class LevelManager {
 								0, 0);
 	}
 
-	/**
-	 * Loads all images needed to create the background of a style.
-	 *
-	 * @param style The style of background.
-	 */
-	private void loadBackground(LevelStyle style) {
-		String[] files = new String[] { "sky", "shadow", "mountains_fog_large", "mountains_large", "mountains_fog_small", "mountains_small" };
-		BufferedImage[] images = new BufferedImage[files.length];
-
-		for(int i = 0; i < files.length; i++)
-			images[i] = Game.loadSprite("backgrounds/" + style.getName() + "/" + files[i] + ".png");
-
-		backgrounds.put(style, images);
-	}
-
-	private Image[] loadLayerTiles(LevelLayer layer) {
+	private int[] loadLayerTiles(LevelLayer layer) {
 		return importTiles(Game.loadSprite("tiles/" + layer.getName() + ".png"));
 	}
 
@@ -158,51 +139,14 @@ public class LevelManager {
 	}
 
 	/**
-	 * Takes a sprite sheet and cuts out each tile and places
-	 * them in an array.
-	 *
-	 * @param sprites The sprite sheet(s) in which tiles will be imported from.
-	 * @return An array of tile images.
-	 */
-	private Image[] importTiles(BufferedImage... sprites) {
-		List<Image> tiles = new ArrayList<>();
-		for(BufferedImage sprite : sprites) {
-			final int WIDTH = sprite.getWidth() / TILES_DEFAULT_SIZE;
-			final int HEIGHT = sprite.getHeight() / TILES_DEFAULT_SIZE;
-
-			for(int h = 0; h < HEIGHT; h++)
-				for(int w = 0; w < WIDTH; w++)
-					tiles.add(sprite.getSubimage(w * TILES_DEFAULT_SIZE, h * TILES_DEFAULT_SIZE, TILES_DEFAULT_SIZE, TILES_DEFAULT_SIZE));
-		}
-		return tiles.toArray(tiles.toArray(new Image[0]));
-	}
-
-	/**
-	 * @param style The style of the level.
-	 * @return A background image based on the current level's style.
-	 */
-	public BufferedImage getBackgroundImage(LevelStyle style) {
-		return backgrounds.getOrDefault(style, null)[0];
-	}
-
-	/**
-	 * @param style The style of the level.
-	 * @return A mountain shadow image based on the current level's style the level background.
-	 */
-	public BufferedImage getMountainShadowImage(LevelStyle style) {
-		return backgrounds.getOrDefault(style, null)[1];
-	}
-
-	/**
-	 * Obtain the mountain image for the background based on the current level's style.
+	 * Takes a sprite sheet, cuts out each tile and
+	 * places them in the texture atlas.
 	 *
-	 * @param style The style of the level.
-	 * @param large Do you want the large or small mountains?
-	 * @param foggy Do you want foggy or clear skies?
-	 * @return An image object, if it exists.
+	 * @param sprite The sprite sheet in which tiles will be imported from.
+	 * @return The atlas ids of the tiles, row by row.
 	 */
-	public BufferedImage getMountainImage(LevelStyle style, boolean large, boolean foggy) {
-		return backgrounds.getOrDefault(style, null)[large ? (foggy ? 2 : 3) : (foggy ? 4 : 5)];
+	static int[] importTiles(BufferedImage sprite) {
+		return TextureAtlas.addGrid(sprite, TILES_DEFAULT_SIZE, TILES_DEFAULT_SIZE, TextureAtlas.SPRITE_SCALE);
 	}
 
 	/**
@@ -211,9 +155,9 @@ public class LevelManager {
 	 * @param style The style of the level.
 	 * @param layer The specific layer it is drawn for.
 	 * @param index The index of the tile within the sprite sheet.
-	 * @return An image object, if it exists.
+	 * @return The atlas id of the tile, or {@link TextureAtlas#NONE} if it does not exist.
 	 */
-	public Image getTile(LevelStyle style, LevelLayer layer, int index) {
+	public int getTile(LevelStyle style, LevelLayer layer, int index) {
 		if(layer.equals(LevelLayer.FOREGROUND)) 		 return getForegroundTile(style, index);
 		else if(layer.equals(LevelLayer.MIDGROUND))  return getMidGroundTile(index);
 		else if(layer.equals(LevelLayer.FLORA))      return getFloraTile(index);
@@ -225,12 +169,12 @@ public class LevelManager {
 	 *
 	 * @param style The style of tiles being used.
 	 * @param index The index of the tile within the sprite sheet.
-	 * @return An image object, if it exists.
+	 * @return The atlas id of the tile, if it exists.
 	 */
-	private Image getForegroundTile(LevelStyle style, int index) {
-		Image[] images = foregroundTiles.getOrDefault(style, null);
-		if(images == null || (index >= images.length))return null;
-		return images[index];
+	private int getForegroundTile(LevelStyle style, int index) {
+		StyleAssets assets = StyleAssets.getResident(style);
+		if(assets == null)return TextureAtlas.NONE;
+		return assets.getForegroundTile(index);
 	}
 
 	/**
@@ -238,10 +182,10 @@ public class LevelManager {
 	 * These are placed between the foreground and background.
 	 *
 	 * @param index The index of the tile within the sprite sheet.
-	 * @return An image object, if it exists.
+	 * @return The atlas id of the tile, if it exists.
 	 */
-	private Image getMidGroundTile(int index) {
-		if(index >= midGroundTiles.length)return null;
+	private int getMidGroundTile(int index) {
+		if(index >= midGroundTiles.length)return TextureAtlas.NONE;
 		return midGroundTiles[index];
 	}
 
@@ -250,10 +194,10 @@ public class LevelManager {
 	 * These are placed between the foreground and midground.
 	 *
 	 * @param index The index of the tile within the sprite sheet.
-	 * @return An image object, if it exists.
+	 * @return The atlas id of the tile, if it exists.
 	 */
-	private Image getFloraTile(int index) {
-		if(index >= floraTiles.length)return null;
+	private int getFloraTile(int index) {
+		if(index >= floraTiles.length)return TextureAtlas.NONE;
 		return floraTiles[index];
 	}
 
@@ -262,10 +206,10 @@ public class LevelManager {
 	 * These are placed between the flora and foreground.
 	 *
 	 * @param index The index of the tile within the sprite sheet.
-	 * @return An image object, if it exists.
+	 * @return The atlas id of the tile, if it exists.
 	 */
-	private Image getDecorTile(int index) {
-		if(index >= decorTiles.length)return null;
+	private int getDecorTile(int index) {
+		if(index >= decorTiles.length)return TextureAtlas.NONE;
 		return decorTiles[index];
 	}
 
@@ -276,89 +220,140 @@ public class LevelManager {
 	 * @param index The tile index within its sheet.
 	 * @return An animation object, if it exists.
 	 */
-	public Animation getTileAnimation(LevelLayer layer, int index) {
+	public TileAnimation getTileAnimation(LevelLayer layer, int index) {
 		TileAnimations ta = animations.getOrDefault(layer, null);
 		if(ta == null)return null;
-		return ta.getAnimations().getOrDefault(index, null);
+		return ta.get(index);
 	}
 
 	/**
-	 * Loads a level's property file which contains all its data.
+	 * Get the sprite a tile shows right now. Only reads the animation
+	 * clock, so tiles can be drawn in any order or at the same time.
 	 *
-	 * @param path The path to the level file.
-	 * @return A loaded properties file, so long as it exists.
+	 * @param style The style of the level.
+	 * @param layer The specific layer it is drawn for.
+	 * @param index The index of the tile within the sprite sheet.
+	 * @return The atlas id of the sprite, or {@link TextureAtlas#NONE} if it does not exist.
 	 */
-	private Properties getLevelPropertyFile(String path) {
-		path = path.concat(".properties");
-		Properties properties = new Properties();
-		try (InputStream input = getClass().getResourceAsStream("/" + path)) {
-			if (input != null)
-				properties.load(input);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-		return properties;
+	public int getTileFrame(LevelStyle style, LevelLayer layer, int index) {
+		TileAnimation animation = getTileAnimation(layer, index);
+		if(animation != null) return animation.getFrame(animationClock.getTicks());
+		return getTile(style, layer, index);
 	}
 
+	/**
+	 * @return The clock that drives every animated tile.
+	 */
+	public AnimationClock getAnimationClock() {
+		return animationClock;
+	}
 
 	/**
-	 * Loads a level and all of its data.
+	 * Loads a level and all of its data. Very wide levels are
+	 * streamed in chunks around the camera instead.
 	 *
 	 * @param id The level number.
-	 * @return A level object filled with the provided data.
+	 * @return A level object filled with the provided data, or null if the level file is malformed.
 	 */
 	private Level loadLevel(int id) {
-		Properties levelProperties = getLevelPropertyFile("levels/" + id);
-		LevelStyle style = LevelStyle.getStyle(levelProperties.getProperty("style"));
-		return new Level(this, id, style, loadLevelData(id));
+		LevelFile file = getLevelFile(id);
+		if(file != null && file.getWidth() > STREAMING_WIDTH)
+			return new Level(this, new LevelStreamer(file, chunkLoader));
+
+		LevelTemplate template = getTemplate(id);
+		if(template == null)return null;
+		return new Level(this, template);
 	}
 
 	/**
-	 * Determines all tile information for a level based on the
-	 * tile index given within each level's properties file.
+	 * Obtain the parsed data of a level. Each level file is only
+	 * read and parsed the first time it is needed.
 	 *
 	 * @param id The level number.
-	 * @return A map consisting of a key layer with tile index values.
+	 * @return The level's template.
 	 */
-	public Map<LevelLayer, int[][]> loadLevelData(int id) {
-		Properties levelProperties = getLevelPropertyFile("levels/" + id);
-		Map<LevelLayer, int[][]> data = new HashMap<>();
-		for(LevelLayer layer : LevelLayer.values())
-			data.put(layer, parseLevelData(levelProperties, layer));
-		return data;
+	public LevelTemplate getTemplate(int id) {
+		return templates.computeIfAbsent(id, this::loadTemplate);
+	}
+
+	/**
+	 * Determines all tile information for a level. The binary level file is
+	 * preferred, and the properties file is only parsed if there is no binary
+	 * one or it was converted from an older properties file.
+	 *
+	 * @param id The level number.
+	 * @return A template holding the style and the tile index values of each layer, or null if it could not be read.
+	 */
+	private LevelTemplate loadTemplate(int id) {
+		try {
+			LevelFile file = getLevelFile(id);
+			if(file != null) return file.toTemplate();
+
+			try (InputStream input = getClass().getResourceAsStream("/levels/" + id + ".properties")) {
+				if(input == null)return null;
+				return new LevelParser(id, new InputStreamReader(input, StandardCharsets.ISO_8859_1)).parse();
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+		return null;
 	}
 
 	/**
-	 * Takes a string of level data and makes it useful.
+	 * Opens a level's binary file, once. It is memory-mapped when
+	 * it sits on disk and only its header is read up front.
 	 *
-	 * @param properties The properties file of the level.
-	 * @param layer      The layer that will be parsed.
-	 * @return A 2D array of tile index for a specific layer.
+	 * @param id The level number.
+	 * @return The opened level file, or null if there is none or it could not be read.
 	 */
-	private int[][] parseLevelData(Properties properties, LevelLayer layer) {
-		String data = properties.getProperty(layer.getName());
-		String[] rows = data.split(";");
-
-		int[][] levelData = null;
-		for(int h = 0; h < rows.length; h++) {
-			String[] columns = rows[h].split(",");
-			for(int w = 0; w < columns.length; w++) {
-				if(levelData == null) levelData = new int[rows.length][columns.length];
-				int value = Integer.parseInt(columns[w].trim());
-				value = (value > 0 ? (value - 1) : -1);
-				levelData[h][w] = value;
+	public LevelFile getLevelFile(int id) {
+		return files.computeIfAbsent(id, this::openLevelFile);
+	}
+
+	private LevelFile openLevelFile(int id) {
+		URL binary = getClass().getResource("/levels/" + id + LevelFormat.EXTENSION);
+		if(binary == null || outdated.contains(id))return null;
+		try {
+			LevelFile file;
+			if(binary.getProtocol().equals("file")) {
+				file = LevelFormat.map(id, Path.of(binary.toURI()));
+			} else {
+				try (InputStream input = binary.openStream()) {
+					file = new LevelFile(id, ByteBuffer.wrap(input.readAllBytes()));
+				}
+			}
+			if(isOutdated(file)) {
+				outdated.add(id);
+				System.out.println("--> Level " + id + " has changed since it was converted, run the 'convert' tool on its properties file.");
+				return null;
 			}
+			return file;
+		} catch (IOException | URISyntaxException e) {
+			e.printStackTrace();
+		}
+		return null;
+	}
+
+	/**
+	 * Checks a level file against the properties file it was converted from.
+	 *
+	 * @param file The opened level file.
+	 * @return True if the properties file has been edited since, false if it matches or there is none.
+	 */
+	private boolean isOutdated(LevelFile file) throws IOException {
+		try (InputStream input = getClass().getResourceAsStream("/levels/" + file.getId() + ".properties")) {
+			if(input == null)return false;
+			return LevelFormat.checksum(input.readAllBytes()) != file.getSource();
 		}
-		return levelData;
 	}
 
 	/**
 	 * Updates current level to the next.
 	 */
 	public void nextLevel() {
-		if(currentLevel == (levels.size() - 1))
+		if(isLastLevel())
 			backToFirst();
-		else currentLevel++;
+		else switchTo(currentLevel + 1);
 		playing.getSoundManager().startSong();
 	}
 
@@ -366,29 +361,136 @@ public class LevelManager {
 	 * Resets the current level to the first level of the game.
 	 */
 	public void backToFirst() {
-		currentLevel = 0;
+		switchTo(0);
+	}
+
+	/**
+	 * Makes another level the current one. If it was preloaded it is
+	 * swapped in as it is, otherwise it is loaded right away. The baked
+	 * tiles of the level being left are released, and the level after
+	 * the new one starts preloading.
+	 *
+	 * @param index The index of the new level.
+	 */
+	private void switchTo(int index) {
+		if(index == currentLevel)return;
+		Level next = takePreloaded(index);
+		if(next == null) next = prepareLevel(levelIds.get(index));
+		if(next == null)return;
+
+		level.dispose();
+		level = next;
+		currentLevel = index;
+		preloadNext();
+	}
+
+	/**
+	 * Starts preparing the level after the current one on the loader thread.
+	 */
+	private void preloadNext() {
+		if(levelIds.size() < 2)return;
+		final int INDEX = (currentLevel + 1) % levelIds.size();
+		final int ID = levelIds.get(INDEX);
+		preloadedIndex = INDEX;
+		preloaded = loader.submit(() -> prepareLevel(ID));
+	}
+
+	/**
+	 * Obtain the preloaded level, waiting for it if it is not quite ready.
+	 *
+	 * @param index The index of the level wanted.
+	 * @return The prepared level, or null if a different level was preloaded or it failed.
+	 */
+	private Level takePreloaded(int index) {
+		Future<Level> future = preloaded;
+		boolean match = preloadedIndex == index;
+		preloaded = null;
+		preloadedIndex = -1;
+		if(future == null)return null;
+		if(!match) {
+			loader.execute(() -> { /* runs after the preload, which may have already started */
+				Level unused = getQuietly(future);
+				if(unused != null) unused.dispose();
+			});
+			return null;
+		}
+
+		while(!future.isDone()) { /* the preload may be waiting on sprites only this thread copies */
+			TextureAtlas.flush();
+			LockSupport.parkNanos(1_000_000);
+		}
+		return getQuietly(future);
+	}
+
+	/**
+	 * @param name The name of the thread.
+	 * @return An executor running one task at a time on a background thread.
+	 */
+	private static ExecutorService createLoader(String name) {
+		return Executors.newSingleThreadExecutor(r -> {
+			Thread thread = new Thread(r, name);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private static Level getQuietly(Future<Level> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			e.getCause().printStackTrace();
+		}
+		return null;
+	}
+
+	/**
+	 * Loads a level and readies everything it needs to be played:
+	 * its tiles are decoded, its entities spawned (which loads their
+	 * sprites) and its tile chunks baked. Safe to call off the game loop.
+	 *
+	 * @param id The level number.
+	 * @return The level, or null if it could not be loaded.
+	 */
+	private Level prepareLevel(int id) {
+		Level level = loadLevel(id);
+		if(level == null)return null;
+		TextureAtlas.awaitPending(); /* its sprites are copied in by the game thread */
+		level.getTileCache().bakeAll();
+		return level;
 	}
 
 	/**
 	 * @return True if the current level is the last level, false otherwise.
 	 */
 	public boolean isLastLevel() {
-		return currentLevel == (levels.size() - 1);
+		return currentLevel == (levelIds.size() - 1);
 	}
 
 	/**
 	 * @return True if the current level is valid, false otherwise.
 	 */
 	public boolean isCurrentLevelValid() {
-		return levels != null && !levels.isEmpty() && currentLevel >= 0 && currentLevel < levels.size();
+		return level != null;
 	}
 
 	public Level getCurrentLevel() {
-		return levels.get(currentLevel);
+		return level;
 	}
 
-	public List<Level> getLevels() {
-		return levels;
+	/**
+	 * @return The number of every level, in the order they are played.
+	 */
+	public List<Integer> getLevelIds() {
+		return levelIds;
+	}
+
+	/**
+	 * @return The background thread level data is decoded on.
+	 */
+	public ExecutorService getLoader() {
+		return loader;
 	}
 
 	public Playing getPlaying() {
@@ -397,7 +499,7 @@ public class LevelManager {
 
 	class TileAnimations {
 
-		Map<Integer, Animation> animations;
+		private final TileAnimation[] animations; /* indexed by the tile each animation starts on */
 
 		/**
 		 * Used to initialize animated tile sheets.
@@ -407,21 +509,23 @@ public class LevelManager {
 		 * @param duration 	An array of durations for each animation.
 		 */
 		public TileAnimations(BufferedImage sprite, int count, int... duration) {
-			this.animations = new HashMap<>();
-
-			Image[] allAnimations = importTiles(sprite);
+			int[] allAnimations = importTiles(sprite);
+			this.animations = new TileAnimation[allAnimations.length];
 
 			for(int i = 0; i < allAnimations.length; i += count) {
-				Image[] groupedAnimations = new Image[count];
+				int[] groupedAnimations = new int[count];
 				System.arraycopy(allAnimations, i, groupedAnimations, 0, count);
-				Animation animation = new Animation(groupedAnimations, duration[animations.size()], false);
-				int index = animations.size() * animation.getImages().length;
-				animations.put(index, animation);
+				animations[i] = new TileAnimation(groupedAnimations, duration[i / count]);
 			}
 		}
 
-		public Map<Integer, Animation> getAnimations() {
-			return animations;
+		/**
+		 * @param index The tile index within the sheet.
+		 * @return The animation starting on that tile, if there is one.
+		 */
+		public TileAnimation get(int index) {
+			if(index < 0 || index >= animations.length)return null;
+			return animations[index];
 		}
 	}
 }
@@ -0,0 +1,248 @@
+package levels;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class LevelParser {
+
+	private final static int EOF = -1;
+
+	private final int id;
+	private final Reader reader;
+	private final char[] buffer;
+	private int position, limit;
+	private int line;
+
+	private short[] tiles; /* reused between layers, only the finished grid is copied out */
+
+	/**
+	 * Parses a level file in a single pass, straight from its characters.
+	 * Files hold one entry per line: the style and a value for every layer,
+	 * with rows separated by ';' and tile indexes by ','.
+	 *
+	 * @param id     The level number, used in error messages.
+	 * @param reader The contents of the level file.
+	 */
+	public LevelParser(int id, Reader reader) {
+		this.id = id;
+		this.reader = reader;
+		this.buffer = new char[8192];
+		this.tiles = new short[4096];
+		this.line = 1;
+	}
+
+	/**
+	 * Reads the entire level file.
+	 *
+	 * @return The level's template.
+	 * @throws LevelFormatException If the file is malformed, with the row and column of the problem.
+	 * @throws IOException          If the file could not be read.
+	 */
+	public LevelTemplate parse() throws IOException {
+		LevelStyle style = null;
+		Map<LevelLayer, TileGrid> layers = new EnumMap<>(LevelLayer.class);
+		StringBuilder key = new StringBuilder();
+
+		int c;
+		while((c = skipWhitespace(true)) != EOF) {
+			if(c == '#' || c == '!') { /* comment */
+				skipLine();
+				continue;
+			}
+
+			key.setLength(0);
+			while((c = peek()) != EOF && c != '=' && c != ':' && !isWhitespace(c) && c != '\n') {
+				key.append((char) c);
+				read();
+			}
+			c = skipWhitespace(false);
+			if(c == '=' || c == ':') {
+				read();
+				skipWhitespace(false);
+			}
+
+			String name = key.toString();
+			LevelLayer layer = getLayer(name);
+			if(name.equals("style")) {
+				String value = readLine().trim();
+				style = LevelStyle.getStyle(value);
+				if(style == null) throw error("unknown style '" + value + "'");
+			} else if(layer != null) {
+				layers.put(layer, parseLayer(layer));
+			} else skipLine();
+		}
+
+		if(style == null) throw error("missing style");
+		for(LevelLayer layer : LevelLayer.values())
+			if(!layers.containsKey(layer)) throw error("missing layer '" + layer.getName() + "'");
+		return new LevelTemplate(id, style, layers);
+	}
+
+	/**
+	 * Parses the tile indexes of a layer, up to the end of the line,
+	 * without creating any objects along the way.
+	 *
+	 * @param layer The layer being parsed.
+	 * @return The tiles of the layer.
+	 */
+	private TileGrid parseLayer(LevelLayer layer) throws IOException {
+		int width = -1, row = 0, column = 0, count = 0;
+
+		while(true) {
+			int c = skipWhitespace(false);
+			if(!isDigit(c) && c != '-')
+				throw error(layer, row, column, c == EOF || c == '\n' ? "missing tile index" : "expected a tile index but found '" + (char) c + "'");
+
+			boolean negative = c == '-';
+			if(negative) read();
+			if(!isDigit(peek())) throw error(layer, row, column, "expected a digit after '-'");
+
+			int value = 0;
+			while(isDigit(c = peek())) {
+				value = value * 10 + (c - '0');
+				if(value > Short.MAX_VALUE) throw error(layer, row, column, "tile index is too large");
+				read();
+			}
+
+			if(count == tiles.length) {
+				short[] grown = new short[tiles.length * 2];
+				System.arraycopy(tiles, 0, grown, 0, count);
+				tiles = grown;
+			}
+			tiles[count++] = (short) (!negative && value > 0 ? (value - 1) : TileGrid.EMPTY);
+			column++;
+
+			c = skipWhitespace(false);
+			if(c == ',') {
+				read();
+				continue;
+			}
+			if(c != ';' && c != '\n' && c != EOF)
+				throw error(layer, row, column - 1, "expected ',' or ';' but found '" + (char) c + "'");
+
+			// End of a row
+			if(width == -1) width = column;
+			else if(column != width)
+				throw error(layer, row, column - 1, "row has " + column + " tiles but the first row has " + width);
+			row++;
+			column = 0;
+
+			if(c == ';') read();
+			else return new TileGrid(width, row, Arrays.copyOf(tiles, count));
+		}
+	}
+
+	/**
+	 * @return The layer that a key names, if any.
+	 */
+	private LevelLayer getLayer(String name) {
+		for(LevelLayer layer : LevelLayer.values())
+			if(layer.getName().equals(name))
+				return layer;
+		return null;
+	}
+
+	// Reading
+
+	private int read() throws IOException {
+		int c = peek();
+		if(c != EOF) position++;
+		if(c == '\n') line++;
+		return c;
+	}
+
+	/**
+	 * Looks at the next character without consuming it. Line continuations
+	 * (a backslash at the end of a line) are skipped over, as in properties files.
+	 */
+	private int peek() throws IOException {
+		while(true) {
+			if(!fill(1)) return EOF;
+			char c = buffer[position];
+			if(c == '\r') { /* treat CRLF as LF */
+				position++;
+				continue;
+			}
+			if(c != '\\') return c;
+
+			/* only step past the backslash once a line break is known to follow it */
+			fill(3);
+			int next = position + 1;
+			if(next < limit && buffer[next] == '\r') next++;
+			if(next >= limit || buffer[next] != '\n') return '\\';
+			position = next + 1;
+			line++;
+			skipWhitespace(false);
+		}
+	}
+
+	/**
+	 * Makes sure a number of characters can be looked at from the current
+	 * position, moving what is left of the buffer to the front to make room.
+	 *
+	 * @return False if the input ended first.
+	 */
+	private boolean fill(int count) throws IOException {
+		if(limit - position >= count) return true;
+		System.arraycopy(buffer, position, buffer, 0, limit - position);
+		limit -= position;
+		position = 0;
+		while(limit < count) {
+			int read = reader.read(buffer, limit, buffer.length - limit);
+			if(read <= 0) return false;
+			limit += read;
+		}
+		return true;
+	}
+
+	/**
+	 * Skips spaces and tabs, and also line breaks if asked to.
+	 *
+	 * @return The next character that is not skipped.
+	 */
+	private int skipWhitespace(boolean newLines) throws IOException {
+		int c;
+		while((c = peek()) != EOF && (isWhitespace(c) || (newLines && c == '\n')))
+			read();
+		return c;
+	}
+
+	private void skipLine() throws IOException {
+		int c;
+		while((c = read()) != EOF && c != '\n');
+	}
+
+	private String readLine() throws IOException {
+		StringBuilder builder = new StringBuilder();
+		int c;
+		while((c = read()) != EOF && c != '\n')
+			builder.append((char) c);
+		return builder.toString();
+	}
+
+	private static boolean isDigit(int c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isWhitespace(int c) {
+		return c == ' ' || c == '\t' || c == '\f';
+	}
+
+	// Errors
+
+	private LevelFormatException error(String message) {
+		return new LevelFormatException("Level " + id + ": " + message);
+	}
+
+	private LevelFormatException error(LevelLayer layer, int row, int column, String message) {
+		return new LevelFormatException("Level " + id + ", layer '" + layer.getName() + "', row " + (row + 1) +
+				", column " + (column + 1) + " (line " + line + "): " + message);
+	}
+}
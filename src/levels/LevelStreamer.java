@@ -0,0 +1,269 @@
+package levels;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class LevelStreamer implements LevelData {
+
+	public final static int LOAD_DISTANCE = 1;  /* chunks loaded either side of the view */
+	public final static int EVICT_DISTANCE = 2; /* chunks kept either side of the view, so turning around doesn't reload */
+
+	private final LevelFile file;
+	private final ExecutorService executor;
+	private final int chunkWidth;
+
+	private final LevelChunk[] resident;
+	private final List<LevelChunk> residentChunks;
+	private final Map<Integer, Future<LevelChunk>> pending;
+	private final List<LevelChunk> loaded; /* resident but not yet handed to the level */
+	private int first, last;                /* the chunks that must be resident, inclusive */
+
+	/**
+	 * Keeps the chunks of a level around the camera in memory, decoding
+	 * the ones coming into view on a background thread and dropping the
+	 * ones left behind. Not thread-safe: every call, including resets,
+	 * must come from the game loop's thread (buttons go through
+	 * {@link game.states.Playing#requestLevelChange(Runnable)}).
+	 *
+	 * @param file     The level file chunks are decoded from.
+	 * @param executor Where chunks are decoded.
+	 */
+	public LevelStreamer(LevelFile file, ExecutorService executor) {
+		this.file = file;
+		this.executor = executor;
+		this.chunkWidth = file.getChunkWidth();
+		this.resident = new LevelChunk[file.getChunkCount()];
+		this.residentChunks = new ArrayList<>();
+		this.pending = new HashMap<>();
+		this.loaded = new ArrayList<>();
+		this.last = -1;
+	}
+
+	/**
+	 * Moves the window of resident chunks to follow the view. Chunks
+	 * entering the window start decoding, chunks that finished decoding
+	 * become resident and chunks far outside the window are evicted.
+	 *
+	 * @param firstColumn The left-most column in view.
+	 * @param lastColumn  The column after the right-most column in view.
+	 * @param onLoad      Called for each chunk that became resident.
+	 * @param onEvict     Called for each chunk that was evicted.
+	 */
+	public void update(int firstColumn, int lastColumn, Consumer<LevelChunk> onLoad, Consumer<LevelChunk> onEvict) {
+		first = Math.max(0, firstColumn / chunkWidth - LOAD_DISTANCE);
+		last = Math.min(resident.length - 1, (lastColumn - 1) / chunkWidth + LOAD_DISTANCE);
+		final int KEEP_FIRST = first - (EVICT_DISTANCE - LOAD_DISTANCE);
+		final int KEEP_LAST = last + (EVICT_DISTANCE - LOAD_DISTANCE);
+
+		for(int c = first; c <= last; c++) {
+			final int CHUNK = c;
+			if(resident[c] == null && !pending.containsKey(c))
+				pending.put(c, executor.submit(() -> file.loadChunk(CHUNK)));
+		}
+
+		Iterator<Map.Entry<Integer, Future<LevelChunk>>> it = pending.entrySet().iterator();
+		while(it.hasNext()) {
+			Map.Entry<Integer, Future<LevelChunk>> entry = it.next();
+			int c = entry.getKey();
+			if(c < KEEP_FIRST || c > KEEP_LAST) {
+				entry.getValue().cancel(false);
+				it.remove();
+			} else if(entry.getValue().isDone()) {
+				it.remove();
+				install(c, getResult(c, entry.getValue()));
+			}
+		}
+
+		Iterator<LevelChunk> residentIt = residentChunks.iterator();
+		while(residentIt.hasNext()) {
+			LevelChunk chunk = residentIt.next();
+			if(chunk.getIndex() >= KEEP_FIRST && chunk.getIndex() <= KEEP_LAST)continue;
+			residentIt.remove();
+			resident[chunk.getIndex()] = null;
+			if(!loaded.remove(chunk)) onEvict.accept(chunk);
+		}
+
+		for(LevelChunk chunk : loaded)
+			onLoad.accept(chunk);
+		loaded.clear();
+	}
+
+	/**
+	 * Drops every chunk, without notifying anyone, and
+	 * decodes the ones in view right away.
+	 *
+	 * @param firstColumn The left-most column in view.
+	 * @param lastColumn  The column after the right-most column in view.
+	 */
+	public void reset(int firstColumn, int lastColumn) {
+		pending.values().forEach(f -> f.cancel(false));
+		pending.clear();
+		residentChunks.forEach(c -> resident[c.getIndex()] = null);
+		residentChunks.clear();
+		loaded.clear();
+
+		first = Math.max(0, firstColumn / chunkWidth - LOAD_DISTANCE);
+		last = Math.min(resident.length - 1, (lastColumn - 1) / chunkWidth + LOAD_DISTANCE);
+		for(int c = first; c <= last; c++)
+			getChunk(c * chunkWidth);
+	}
+
+	/**
+	 * Finds the chunk holding a column. A chunk within the window that has
+	 * not finished decoding in the background is decoded right here instead,
+	 * so the caller never waits on the executor's queue.
+	 *
+	 * @param x The column.
+	 * @return The chunk, or null if it is not resident.
+	 */
+	private LevelChunk getChunk(int x) {
+		int c = x / chunkWidth;
+		LevelChunk chunk = resident[c];
+		if(chunk != null || c < first || c > last)return chunk;
+
+		Future<LevelChunk> future = pending.remove(c);
+		if(future != null && future.isDone()) chunk = getResult(c, future);
+		else {
+			if(future != null) future.cancel(false);
+			try {
+				chunk = file.loadChunk(c);
+			} catch (LevelFormatException e) {
+				e.printStackTrace();
+			}
+		}
+		install(c, chunk);
+		return chunk;
+	}
+
+	private LevelChunk getResult(int c, Future<LevelChunk> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			e.getCause().printStackTrace();
+		}
+		return null;
+	}
+
+	/**
+	 * Makes a chunk resident. The level is told about it on the next
+	 * update, so nothing it is iterating over changes underneath it.
+	 */
+	private void install(int c, LevelChunk chunk) {
+		if(chunk == null || resident[c] != null)return;
+		resident[c] = chunk;
+		residentChunks.add(chunk);
+		loaded.add(chunk);
+	}
+
+	/**
+	 * @return The chunks currently in memory.
+	 */
+	public List<LevelChunk> getResidentChunks() {
+		return residentChunks;
+	}
+
+	public LevelFile getFile() {
+		return file;
+	}
+
+	@Override
+	public int getId() {
+		return file.getId();
+	}
+
+	@Override
+	public LevelStyle getStyle() {
+		return file.getStyle();
+	}
+
+	@Override
+	public int getWidth() {
+		return file.getWidth();
+	}
+
+	@Override
+	public int getHeight() {
+		return file.getHeight();
+	}
+
+	@Override
+	public int getTile(LevelLayer layer, int x, int y) {
+		if(x < 0 || x >= getWidth())return TileGrid.EMPTY;
+		LevelChunk chunk = getChunk(x);
+		return chunk == null ? TileGrid.EMPTY : chunk.get(layer, x, y);
+	}
+
+	@Override
+	public boolean isSolid(int x, int y) {
+		if(x < 0 || x >= getWidth() || y < 0 || y >= getHeight())return false;
+		LevelChunk chunk = getChunk(x);
+		return chunk == null || chunk.getCollisionMap().isSolid(x - chunk.getX(), y);
+	}
+
+	@Override
+	public boolean isSpanClear(int y, int x0, int x1) {
+		if(y < 0 || y >= getHeight())return true;
+		x0 = Math.max(x0, 0);
+		x1 = Math.min(x1, getWidth());
+		while(x0 < x1) {
+			LevelChunk chunk = getChunk(x0);
+			int end = Math.min(x1, (x0 / chunkWidth + 1) * chunkWidth);
+			if(chunk == null || !chunk.getCollisionMap().isSpanClear(y, x0 - chunk.getX(), end - chunk.getX()))
+				return false;
+			x0 = end;
+		}
+		return true;
+	}
+
+	@Override
+	public boolean isSpanSolid(int y, int x0, int x1) {
+		if(x0 >= x1)return true;
+		if(y < 0 || y >= getHeight() || x0 < 0 || x1 > getWidth())return false;
+		while(x0 < x1) {
+			LevelChunk chunk = getChunk(x0);
+			int end = Math.min(x1, (x0 / chunkWidth + 1) * chunkWidth);
+			if(chunk != null && !chunk.getCollisionMap().isSpanSolid(y, x0 - chunk.getX(), end - chunk.getX()))
+				return false;
+			x0 = end;
+		}
+		return true;
+	}
+
+	@Override
+	public boolean isResident(int x) {
+		return x >= 0 && x < getWidth() && resident[x / chunkWidth] != null;
+	}
+
+	/**
+	 * Decodes the layer from every chunk in turn, one at a time, so the whole
+	 * level is never in memory at once.
+	 */
+	@Override
+	public void scan(LevelLayer layer, TileVisitor visitor) {
+		for(int c = 0; c < file.getChunkCount(); c++) {
+			try {
+				TileGrid grid = file.loadLayer(c, layer);
+				for(int h = 0; h < grid.getHeight(); h++)
+					for(int w = 0; w < grid.getWidth(); w++) {
+						int index = grid.get(w, h);
+						if(index != TileGrid.EMPTY) visitor.visit(c * chunkWidth + w, h, index);
+					}
+			} catch (LevelFormatException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package levels;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class LevelTemplate implements LevelData {
+
+	private final int id;
+	private final LevelStyle style;
+	private final Map<LevelLayer, TileGrid> layers;
+	private final CollisionMap collision;
+
+	/**
+	 * A parsed level as it was loaded from disk. Templates are never
+	 * modified, so every play of a level shares the same tile data
+	 * and restarting it does not need to parse anything again.
+	 *
+	 * @param id     The level number.
+	 * @param style  The style of the level.
+	 * @param layers The tiles of every layer, which must not be modified afterwards.
+	 */
+	public LevelTemplate(int id, LevelStyle style, Map<LevelLayer, TileGrid> layers) {
+		this.id = id;
+		this.style = style;
+		this.layers = Collections.unmodifiableMap(new EnumMap<>(layers));
+		this.collision = new CollisionMap(layers.get(LevelLayer.FOREGROUND), style);
+	}
+
+	@Override
+	public int getId() {
+		return id;
+	}
+
+	@Override
+	public LevelStyle getStyle() {
+		return style;
+	}
+
+	/**
+	 * @return A read-only view of the tiles of every layer.
+	 */
+	public Map<LevelLayer, TileGrid> getLayers() {
+		return layers;
+	}
+
+	public CollisionMap getCollisionMap() {
+		return collision;
+	}
+
+	@Override
+	public int getWidth() {
+		return collision.getWidth();
+	}
+
+	@Override
+	public int getHeight() {
+		return collision.getHeight();
+	}
+
+	@Override
+	public int getTile(LevelLayer layer, int x, int y) {
+		return layers.get(layer).get(x, y);
+	}
+
+	@Override
+	public boolean isSolid(int x, int y) {
+		return collision.isSolid(x, y);
+	}
+
+	@Override
+	public boolean isSpanClear(int y, int x0, int x1) {
+		return collision.isSpanClear(y, x0, x1);
+	}
+
+	@Override
+	public boolean isSpanSolid(int y, int x0, int x1) {
+		return collision.isSpanSolid(y, x0, x1);
+	}
+
+	/**
+	 * @return True, templates are always entirely in memory.
+	 */
+	@Override
+	public boolean isResident(int x) {
+		return true;
+	}
+
+	@Override
+	public void scan(LevelLayer layer, TileVisitor visitor) {
+		TileGrid grid = layers.get(layer);
+		for(int h = 0; h < grid.getHeight(); h++)
+			for(int w = 0; w < grid.getWidth(); w++) {
+				int index = grid.get(w, h);
+				if(index != TileGrid.EMPTY) visitor.visit(w, h, index);
+			}
+	}
+}
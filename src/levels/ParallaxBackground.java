@@ -0,0 +1,135 @@
+package levels;
+
+import game.Game;
+import sprites.TextureAtlas;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import static game.Game.*;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class ParallaxBackground {
+
+	/* Each layer is scaled once into a strip that wraps around, only its visible slices are drawn. */
+	private final BufferedImage sky;
+	private final Strip[] strips;
+
+	/**
+	 * Builds the strips of a background, far to near.
+	 *
+	 * @param bg The sky behind everything else.
+	 * @param lm The large mountain image.
+	 * @param ms The mountain shadow image.
+	 * @param sm The small mountain image.
+	 */
+	public ParallaxBackground(BufferedImage bg, BufferedImage lm, BufferedImage ms, BufferedImage sm) {
+		this.sky = bg == null ? null : prescale(bg, GAME_WIDTH, GAME_HEIGHT);
+		this.strips = new Strip[] {
+				new Strip(lm, 85,  0.3),
+				new Strip(ms, 70,  0.5),
+				new Strip(sm, 168, 0.7)
+		};
+	}
+
+	/**
+	 * Draws the complete background. Costs the same no matter how far it has scrolled.
+	 *
+	 * @param g       The graphics context.
+	 * @param offsetX How far the background has scrolled.
+	 */
+	public void draw(Graphics g, int offsetX) {
+		if(sky != null) g.drawImage(sky, 0, 0, GAME_WIDTH, GAME_HEIGHT, null);
+		for(Strip strip : strips)
+			strip.draw(g, offsetX);
+	}
+
+	/**
+	 * @return The scaled images drawn, sky first.
+	 */
+	public List<BufferedImage> getImages() {
+		List<BufferedImage> images = new ArrayList<>();
+		if(sky != null) images.add(sky);
+		for(Strip strip : strips)
+			if(strip.image != null) images.add(strip.image);
+		return images;
+	}
+
+	/**
+	 * Scales an image to the size it is drawn at, in a format that draws quickly.
+	 * It is kept at the art's own resolution when the scene is drawn natively.
+	 *
+	 * @param image  The image to scale.
+	 * @param width  The width it is drawn at.
+	 * @param height The height it is drawn at.
+	 * @return The scaled copy.
+	 */
+	private static BufferedImage prescale(BufferedImage image, int width, int height) {
+		final int W = Math.max(1, (int) ((float) width / SCALE * TextureAtlas.SPRITE_SCALE));
+		final int H = Math.max(1, (int) ((float) height / SCALE * TextureAtlas.SPRITE_SCALE));
+		BufferedImage scaled = Game.createCompatibleImage(W, H, getTransparency(image));
+		Graphics2D g = scaled.createGraphics();
+		g.setComposite(AlphaComposite.Src);
+		g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+		g.drawImage(image, 0, 0, W, H, null);
+		g.dispose();
+		return scaled;
+	}
+
+	/**
+	 * Works out the transparency from the pixels themselves, the
+	 * colour model of a decoded image often claims more than it uses.
+	 *
+	 * @param image The image.
+	 * @return The {@link Transparency} the image needs.
+	 */
+	private static int getTransparency(BufferedImage image) {
+		int transparency = Transparency.OPAQUE;
+		for(int argb : image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth())) {
+			int alpha = argb >>> 24;
+			if(alpha == 0) transparency = Transparency.BITMASK;
+			else if(alpha != 255)return Transparency.TRANSLUCENT;
+		}
+		return transparency;
+	}
+
+	private static class Strip {
+
+		private final BufferedImage image;
+		private final int y, width, height;
+		private final double factor;
+
+		/**
+		 * @param source The layer's image, may be null.
+		 * @param y      The top of the layer, at the art's size.
+		 * @param factor How fast the layer scrolls compared to the level.
+		 */
+		Strip(BufferedImage source, int y, double factor) {
+			this.y = (int) (y * SCALE);
+			this.factor = factor;
+			if(source == null) {
+				image = null;
+				width = height = 0;
+				return;
+			}
+			width = (int) (source.getWidth() * SCALE);
+			height = (int) (source.getHeight() * SCALE);
+			image = prescale(source, width, height);
+		}
+
+		/**
+		 * Draws the one or two slices of the strip that are on screen.
+		 */
+		void draw(Graphics g, int offsetX) {
+			if(image == null)return;
+			int x = -Math.floorMod((int) (offsetX * factor), width);
+			for(; x < GAME_WIDTH; x += width)
+				g.drawImage(image, x, y, width, height, null);
+		}
+	}
+}
@@ -0,0 +1,181 @@
+package levels;
+
+import game.Game;
+import sprites.ImageHeap;
+import sprites.Palette;
+import sprites.TextureAtlas;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class StyleAssets {
+
+	/* Assets of a single style are loaded when the first user of that style needs them. */
+	public final static int MAX_UNUSED_STYLES = 1; /* styles kept after their last user is gone, least recently used first out */
+	private final static String[] BACKGROUNDS = { "sky", "shadow", "mountains_fog_large", "mountains_large", "mountains_fog_small", "mountains_small" };
+	private final static Map<LevelStyle, StyleAssets> RESIDENT = new ConcurrentHashMap<>();
+	private final static Deque<LevelStyle> UNUSED = new ArrayDeque<>();
+
+	private final LevelStyle style;
+	private final BufferedImage[] backgrounds; /* palette indices, only read when a parallax background is built */
+	private final ParallaxBackground[] parallax = new ParallaxBackground[2]; /* foggy, clear */
+	private final int[] foregroundTiles; /* atlas ids */
+	private int users; /* levels and screens using these assets, guarded by UNUSED */
+
+	/**
+	 * The images only needed by levels of a single style.
+	 *
+	 * @param style           The style they belong to.
+	 * @param backgrounds     The sky, shadow, large foggy, large, small foggy and small mountain images.
+	 * @param foregroundTiles The atlas ids of the style's foreground tiles.
+	 */
+	public StyleAssets(LevelStyle style, BufferedImage[] backgrounds, int[] foregroundTiles) {
+		this.style = style;
+		this.backgrounds = backgrounds;
+		this.foregroundTiles = foregroundTiles;
+	}
+
+	/**
+	 * Obtain the assets of a style, loading them if no one is using them.
+	 * Every call must be matched by a call to {@link #release(LevelStyle)}
+	 * once the assets are no longer needed.
+	 *
+	 * @param style The style of the level.
+	 * @return The style's backgrounds and tiles.
+	 */
+	public static StyleAssets acquire(LevelStyle style) {
+		synchronized(UNUSED) {
+			StyleAssets assets = RESIDENT.get(style);
+			if(assets == null) {
+				assets = load(style);
+				RESIDENT.put(style, assets);
+			}
+			assets.users++;
+			UNUSED.remove(style);
+			return assets;
+		}
+	}
+
+	/**
+	 * Stops using the assets of a style. Once no one uses them they are
+	 * kept around for a while, in case they are needed again soon, and
+	 * released when too many unused styles are held.
+	 *
+	 * @param style The style of the level.
+	 */
+	public static void release(LevelStyle style) {
+		synchronized(UNUSED) {
+			StyleAssets assets = RESIDENT.get(style);
+			if(assets == null || assets.users == 0 || --assets.users > 0)return;
+			UNUSED.addLast(style);
+			while(UNUSED.size() > MAX_UNUSED_STYLES) {
+				StyleAssets evicted = RESIDENT.remove(UNUSED.removeFirst());
+				if(evicted != null && evicted.foregroundTiles != null)
+					TextureAtlas.release(evicted.foregroundTiles); /* the next style's tiles take their place */
+			}
+		}
+	}
+
+	/**
+	 * @param style The style of the level.
+	 * @return The style's assets if they are in memory, without acquiring them.
+	 */
+	public static StyleAssets getResident(LevelStyle style) {
+		return RESIDENT.get(style);
+	}
+
+	/**
+	 * @return The styles whose assets are currently in memory.
+	 */
+	public static Set<LevelStyle> getResidentStyles() {
+		return Collections.unmodifiableSet(RESIDENT.keySet());
+	}
+
+	/**
+	 * Lists the memory held by the styles in memory: their background
+	 * images and the full colour parallax strips scaled from them.
+	 *
+	 * @return The report, one line per kind of image.
+	 */
+	public static String getHeapReport() {
+		List<BufferedImage> sources = new ArrayList<>(), strips = new ArrayList<>();
+		for(StyleAssets assets : RESIDENT.values()) {
+			for(BufferedImage image : assets.backgrounds)
+				if(image != null) sources.add(image);
+			synchronized(assets) {
+				for(ParallaxBackground background : assets.parallax)
+					if(background != null) strips.addAll(background.getImages());
+			}
+		}
+		return ImageHeap.describe("Style backgrounds", sources) + ImageHeap.describe("Parallax strips", strips);
+	}
+
+	/**
+	 * @param style The style of level.
+	 * @return The path of every image a style loads, starting from the res folder.
+	 */
+	public static List<String> getPaths(LevelStyle style) {
+		List<String> paths = new ArrayList<>();
+		for(String file : BACKGROUNDS)
+			paths.add("backgrounds/" + style.getName() + "/" + file + ".png");
+		paths.add("tiles/" + style.getFileName());
+		return paths;
+	}
+
+	/**
+	 * Loads all images needed to create the background and foreground of a style.
+	 *
+	 * @param style The style of level.
+	 * @return The loaded assets.
+	 */
+	private static StyleAssets load(LevelStyle style) {
+		List<String> paths = getPaths(style);
+		BufferedImage[] images = new BufferedImage[BACKGROUNDS.length];
+		for(int i = 0; i < images.length; i++)
+			images[i] = Palette.toIndexed(Game.loadSprite(paths.get(i)));
+
+		BufferedImage tileSheet = Game.loadSprite(paths.get(images.length));
+		return new StyleAssets(style, images, tileSheet == null ? null : LevelManager.importTiles(tileSheet));
+	}
+
+	/**
+	 * Obtain the parallax background of the style, scaled
+	 * the first time it is asked for.
+	 *
+	 * @param foggy Do you want foggy or clear skies?
+	 * @return The background.
+	 */
+	public synchronized ParallaxBackground getBackground(boolean foggy) {
+		int i = foggy ? 0 : 1;
+		if(parallax[i] == null)
+			parallax[i] = new ParallaxBackground(backgrounds[0], backgrounds[foggy ? 2 : 3], backgrounds[1], backgrounds[foggy ? 4 : 5]);
+		return parallax[i];
+	}
+
+	/**
+	 * @param index The index of the tile within the sprite sheet.
+	 * @return The atlas id of the tile, if it exists.
+	 */
+	public int getForegroundTile(int index) {
+		if(foregroundTiles == null || index < 0 || index >= foregroundTiles.length)return TextureAtlas.NONE;
+		return foregroundTiles[index];
+	}
+
+	/**
+	 * @return The number of foreground tiles in the style's sheet.
+	 */
+	public int getTileCount() {
+		return foregroundTiles == null ? 0 : foregroundTiles.length;
+	}
+
+	public LevelStyle getStyle() {
+		return style;
+	}
+}
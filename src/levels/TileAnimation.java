@@ -0,0 +1,36 @@
+package levels;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class TileAnimation {
+
+	private final int[] frames;
+	private final int duration;
+
+	/**
+	 * An animation shared by every tile of the same kind. It holds no
+	 * state of its own, the frame is worked out from a shared clock.
+	 *
+	 * @param frames   The atlas ids of the animation's sprites.
+	 * @param duration The number of ticks each frame is shown for. (0 = still)
+	 */
+	public TileAnimation(int[] frames, int duration) {
+		this.frames = frames;
+		this.duration = duration;
+	}
+
+	/**
+	 * @param ticks The ticks counted by the animation clock.
+	 * @return The atlas id of the frame to show at that point in time.
+	 */
+	public int getFrame(long ticks) {
+		if(duration <= 0) return frames[0];
+		return frames[(int) ((ticks / duration) % frames.length)];
+	}
+
+	public int[] getFrames() {
+		return frames;
+	}
+}
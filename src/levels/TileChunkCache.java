@@ -0,0 +1,130 @@
+package levels;
+
+import game.Game;
+import sprites.TextureAtlas;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static game.Game.*;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class TileChunkCache {
+
+	public final static int CHUNK_WIDTH = 16; /* in tiles */
+	public final static int BEHIND = 0, IN_FRONT = 1;
+
+	/* Static layers are flattened into the pass they are drawn in, either side of the entities. */
+	private final static LevelLayer[][] PASSES = {
+			{ LevelLayer.MIDGROUND, LevelLayer.DECOR, LevelLayer.FLORA },
+			{ LevelLayer.FOREGROUND }
+	};
+
+	private final Level level;
+	private BufferedImage[][] chunks;
+
+	public TileChunkCache(Level level) {
+		this.level = level;
+	}
+
+	/**
+	 * Draws the chunks of a pass that are within view of the camera.
+	 * Chunks that have not been baked yet are baked on the spot.
+	 *
+	 * @param g    The graphics context.
+	 * @param pass Either {@link #BEHIND} or {@link #IN_FRONT} of the entities.
+	 */
+	public void draw(Graphics g, int pass) {
+		BufferedImage[][] baked = chunks; /* read once, clear() may drop it */
+		if(baked == null) chunks = baked = new BufferedImage[PASSES.length][getChunkCount()];
+
+		Camera camera = level.getCamera();
+		final int FIRST = camera.getFirstVisibleColumn() / CHUNK_WIDTH;
+		final int LAST = (camera.getLastVisibleColumn() - 1) / CHUNK_WIDTH;
+		final int CHUNK_SIZE = CHUNK_WIDTH * TILES_SIZE;
+
+		for(int c = FIRST; c <= LAST; c++) {
+			if(baked[pass][c] == null) baked[pass][c] = bake(pass, c);
+			g.drawImage(baked[pass][c], c * CHUNK_SIZE - camera.getRenderOffsetX(), 0, CHUNK_SIZE, GAME_HEIGHT, null);
+		}
+	}
+
+	/**
+	 * Bakes every chunk of the level that is in memory ahead of time.
+	 */
+	public void bakeAll() {
+		chunks = new BufferedImage[PASSES.length][getChunkCount()];
+		LevelData data = level.getData();
+		for(int pass = 0; pass < PASSES.length; pass++)
+			for(int c = 0; c < chunks[pass].length; c++)
+				if(data.isResident(c * CHUNK_WIDTH))
+					chunks[pass][c] = bake(pass, c);
+	}
+
+	/**
+	 * Drops the baked chunks covering a range of columns.
+	 *
+	 * @param x0 The first column. (inclusive)
+	 * @param x1 The last column. (exclusive)
+	 */
+	public void release(int x0, int x1) {
+		if(chunks == null)return;
+		for(BufferedImage[] pass : chunks)
+			for(int c = x0 / CHUNK_WIDTH; c < Math.min(pass.length, (x1 + CHUNK_WIDTH - 1) / CHUNK_WIDTH); c++)
+				pass[c] = null;
+	}
+
+	/**
+	 * Drops the baked chunks whose tiles are no longer in memory.
+	 */
+	public void releaseNonResident() {
+		BufferedImage[][] baked = chunks;
+		if(baked == null)return;
+		LevelData data = level.getData();
+		for(BufferedImage[] pass : baked)
+			for(int c = 0; c < pass.length; c++)
+				if(!data.isResident(c * CHUNK_WIDTH)) pass[c] = null;
+	}
+
+	/**
+	 * Drops all baked chunks, they will be baked again when needed.
+	 */
+	public void clear() {
+		chunks = null;
+	}
+
+	/**
+	 * Draws the static tiles of one chunk into a single image at the art's native size.
+	 *
+	 * @param pass  The pass the chunk belongs to.
+	 * @param chunk The chunk number, counting from the left of the level.
+	 * @return The baked chunk.
+	 */
+	private BufferedImage bake(int pass, int chunk) {
+		BufferedImage image = Game.createCompatibleImage(CHUNK_WIDTH * TILES_DEFAULT_SIZE, TILES_IN_HEIGHT * TILES_DEFAULT_SIZE);
+		Graphics g = image.getGraphics();
+		LevelManager levelManager = level.getLevelManager();
+
+		final int START = chunk * CHUNK_WIDTH;
+		final int END = Math.min(START + CHUNK_WIDTH, level.getWidth());
+		for(LevelLayer layer : PASSES[pass]) {
+			for(int h = 0; h < TILES_IN_HEIGHT; h++) {
+				for(int w = START; w < END; w++) {
+					int index = level.getTileIndex(layer, w, h);
+					if(index < 0)continue;
+					TextureAtlas.draw(g, levelManager.getTile(level.getStyle(), layer, index),
+							(w - START) * TILES_DEFAULT_SIZE, h * TILES_DEFAULT_SIZE, TILES_DEFAULT_SIZE, TILES_DEFAULT_SIZE);
+				}
+			}
+		}
+		g.dispose();
+		return image;
+	}
+
+	private int getChunkCount() {
+		return (level.getWidth() + CHUNK_WIDTH - 1) / CHUNK_WIDTH;
+	}
+}
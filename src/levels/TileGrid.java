@@ -0,0 +1,70 @@
+package levels;
+
+import java.util.Arrays;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class TileGrid {
+
+	public final static int EMPTY = -1;
+
+	private final int width, height;
+	private final short[] tiles; /* row-major, one contiguous block per layer */
+
+	public TileGrid(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.tiles = new short[width * height];
+		Arrays.fill(tiles, (short) EMPTY);
+	}
+
+	/**
+	 * Wraps tiles that were already parsed, without copying them.
+	 *
+	 * @param width  The number of columns.
+	 * @param height The number of rows.
+	 * @param tiles  The tile indexes in row-major order.
+	 */
+	TileGrid(int width, int height, short[] tiles) {
+		if(tiles.length != width * height)
+			throw new IllegalArgumentException("Expected " + (width * height) + " tiles but got " + tiles.length);
+		this.width = width;
+		this.height = height;
+		this.tiles = tiles;
+	}
+
+	/**
+	 * Get the tile index at a position within the grid.
+	 *
+	 * @param x The column.
+	 * @param y The row.
+	 * @return The tile index, or {@link #EMPTY} if the position is outside the grid.
+	 */
+	public int get(int x, int y) {
+		if(x < 0 || x >= width || y < 0 || y >= height) return EMPTY;
+		return tiles[y * width + x];
+	}
+
+	/**
+	 * Places a tile, only used while a level is being loaded.
+	 *
+	 * @param x     The column.
+	 * @param y     The row.
+	 * @param index The tile index, or {@link #EMPTY}.
+	 */
+	void set(int x, int y, int index) {
+		if(x < 0 || x >= width || y < 0 || y >= height)
+			throw new IndexOutOfBoundsException("Tile (" + x + ", " + y + ") is outside of a " + width + "x" + height + " grid");
+		tiles[y * width + x] = (short) index;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+}
@@ -37,17 +37,24 @@ public abstract class Matter extends Hitbox {
 
 	public void update() {}
 
+	/**
+	 * Advances the texture's animation by one tick.
+	 */
+	public void updateAnimation() {
+		if(animation != null)
+			animation.update();
+	}
+
 	@Override
 	public void draw(Graphics g) {
-		int lvlOffset = playing.getLevelManager().getCurrentLevel().getOffsetX();
+		int lvlOffset = playing.getLevelManager().getCurrentLevel().getRenderOffsetX();
 		super.draw(g, lvlOffset);
 		if(animation == null)return;
 
 		// Draw image if animation exists.
 		final int SIZE = (int) (spriteSize * Game.SCALE);
 		int px = (int)(x - lvlOffset);
-		g.drawImage(animation.getCurrentImage(playing), (int)(px - xDrawOffset),
-				(int)(y - yDrawOffset), SIZE, SIZE, null);
+		animation.draw(g, (int)(px - xDrawOffset), (int)(y - yDrawOffset), SIZE, SIZE);
 	}
 
 	public boolean onCollide() {
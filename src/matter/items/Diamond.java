@@ -2,7 +2,6 @@ package matter.items;
 
 import entities.Player;
 import game.states.Playing;
-import levels.Level;
 import matter.Item;
 import sounds.Sound;
 
@@ -12,9 +11,8 @@ import sounds.Sound;
  **/
 public class Diamond extends Item {
 
-	public Diamond(Playing playing, Level level, double x, double y) {
+	public Diamond(Playing playing, double x, double y) {
 		super(playing, "diamond", x, y, 8, 7, 3, 4, 10);
-		level.addDiamond();
 	}
 
 	@Override
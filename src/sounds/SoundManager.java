@@ -1,10 +1,13 @@
 package sounds;
 
+import game.AssetPipeline;
+
 import javax.sound.sampled.*;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -15,28 +18,44 @@ public class SoundManager {
 
 	private final Map<Sound, List<Clip>> songs, sfx;
 	private Clip currentSong;
+	private volatile Sound wantedSong; /* played as soon as it is loaded, if it isn't yet */
 
 	private float volume;
 	private boolean songMute, sfxMute;
 
 	public SoundManager() {
-		songs = new HashMap<>();
-		sfx = new HashMap<>();
-		loadSounds();
-		playSong(Sound.MENU);
+		songs = new ConcurrentHashMap<>();
+		sfx = new ConcurrentHashMap<>();
+		wantedSong = Sound.MENU;
+	}
+
+	/**
+	 * Loads all sounds for the game, each on its own, in parallel.
+	 * Sounds that are not loaded yet are simply not heard.
+	 *
+	 * @param pipeline The pipeline to load them on.
+	 * @return A task completing once every sound is loaded.
+	 */
+	public AssetPipeline.Task<Void> loadSounds(AssetPipeline pipeline) {
+		List<AssetPipeline.Task<Void>> tasks = new ArrayList<>();
+		for(Sound sound : Sound.values())
+			tasks.add(pipeline.run("sound " + sound.getFileName(), () -> loadSound(sound)));
+		return pipeline.group("sounds", tasks);
 	}
 
 	/**
-	 * Loads all sounds for the game.
+	 * Loads all clips of a sound.
+	 *
+	 * @param sound The sound to load.
 	 */
-	public void loadSounds() {
-		for(Sound sound : Sound.values()) {
-			List<Clip> clips = getClips(sound);
-			if(sound.isSong()) songs.put(sound, clips);
-			else {
-				sfx.put(sound, clips);
-				updateSFXVolume();
-			}
+	public void loadSound(Sound sound) {
+		List<Clip> clips = getClips(sound);
+		if(sound.isSong()) {
+			songs.put(sound, clips);
+			if(sound == wantedSong) playSong(sound);
+		} else {
+			sfx.put(sound, clips);
+			clips.forEach(c -> updateSoundVolume(c, false));
 		}
 	}
 
@@ -60,9 +79,11 @@ public class SoundManager {
 	 *
 	 * @param song The song to be played.
 	 */
-	public void playSong(Sound song) {
-		Clip clip = getSongs(song).get(0);
-		if(clip == null)return;
+	public synchronized void playSong(Sound song) {
+		wantedSong = song;
+		List<Clip> clips = getSongs(song);
+		if(clips == null || clips.isEmpty() || clips.get(0) == null)return;
+		Clip clip = clips.get(0);
 
 		stopSong();
 		currentSong = clip;
@@ -78,7 +99,7 @@ public class SoundManager {
 	 */
 	public void playSFX(Sound sfx) {
 		List<Clip> clips = getEffects(sfx);
-		if(clips.isEmpty())return;
+		if(clips == null || clips.isEmpty())return;
 		int randomSFX = ThreadLocalRandom.current().nextInt(clips.size());
 		playSound(clips.get(randomSFX), false);
 	}
@@ -158,6 +179,7 @@ public class SoundManager {
 	 */
 	public void stopSFX(Sound sound) {
 		List<Clip> clips = getEffects(sound);
+		if(clips == null)return;
 		for(Clip c : clips) {
 			if(c.isActive())
 				c.stop();
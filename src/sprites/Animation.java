@@ -1,10 +1,6 @@
 package sprites;
 
-import game.Game;
-import game.states.Playing;
-
 import java.awt.*;
-import java.awt.image.BufferedImage;
 
 /**
  * Written by Nicholas Cercos
@@ -12,25 +8,24 @@ import java.awt.image.BufferedImage;
  **/
 public class Animation {
 
-	private final Image[] images;
-	private int size;
+	private final SpriteSheet sheet;
 	private final int duration;
 	private int current, delay;
 	private boolean cycleCompleted;
 	private boolean frozen = false, repeatable = true;
 
+	/**
+	 * Creates a playback cursor over a shared sprite sheet.
+	 * Only the position within the animation belongs to this object.
+	 *
+	 * @param name     The filePath for the animation sprite.
+	 * @param size     The width and height of each frame.
+	 * @param duration The number of ticks each frame is shown for.
+	 */
 	public Animation(String name, int size, int duration) {
-		this.size = size;
-		this.duration = duration;
-		delay = duration;
-		images = loadImages(name);
-	}
-
-	public Animation(Image[] images, int duration, boolean frozen) {
-		this.images = images;
 		this.duration = duration;
-		this.frozen = frozen;
 		delay = duration;
+		sheet = SpriteSheets.get(name + ".png", size);
 	}
 
 	/**
@@ -43,45 +38,63 @@ public class Animation {
 	}
 
 	/**
-	 * Loads all the frames for an animation.
-	 *
-	 * @param name The filePath for the animation sprite.
+	 * @return The atlas id of the default sprite for still frame.
 	 */
-	public Image[] loadImages(String name) {
-		BufferedImage sprite = Game.loadSprite(name + ".png");
-		if(sprite == null) return null;
-		final int WIDTH = sprite.getWidth() / size;
-		Image[] images = new Image[WIDTH];
-
-		for(int i = 0; i < WIDTH; i++)
-			images[i] = sprite.getSubimage(i * size, 0, size, size);
-		return images;
+	public int getStaticSprite() {
+		return sheet.isLoaded() ? sheet.getFrame(0) : TextureAtlas.NONE;
 	}
 
 	/**
-	 * @return The default sprite for still frame.
+	 * Advances the animation by one game tick.
 	 */
-	public Image getStaticImage() {
-		return images != null ? images[0] : null;
+	public void update() {
+		if(!sheet.isLoaded() || frozen) return;
+
+		delay--;
+		if(delay == 0) {
+			int next = nextFrame(current, sheet.getFrameCount(), repeatable);
+			if(next <= current) cycleCompleted = true;
+			current = next;
+			delay = duration;
+		}
 	}
 
 	/**
-	 * @return The current image within the animation.
+	 * Finds the frame that follows another once it has been shown
+	 * for long enough. A frame no later than the one given means the
+	 * animation has been through every frame.
+	 *
+	 * @param current    The frame being shown.
+	 * @param frameCount The number of frames in the animation.
+	 * @param repeatable Does the animation start over after the last frame?
+	 * @return The next frame, or the last frame again if it does not repeat.
 	 */
-	public Image getCurrentImage(Playing playing) {
-		if(images == null) return null;
-		if(frozen) return getStaticImage();
+	public static int nextFrame(int current, int frameCount, boolean repeatable) {
+		if(++current == frameCount)
+			return repeatable ? 0 : frameCount - 1;
+		return current;
+	}
 
-		if(!playing.isPaused()) delay--;
-		if(delay == 0) {
-			current++;
-			if(current == images.length) {
-				current = repeatable ? 0 : (images.length - 1);
-				cycleCompleted = true;
-			}
-			delay = duration;
-		}
-		return images[current];
+	/**
+	 * @return The atlas id of the current sprite within the animation.
+	 */
+	public int getCurrentSprite() {
+		if(!sheet.isLoaded()) return TextureAtlas.NONE;
+		if(frozen) return getStaticSprite();
+		return sheet.getFrame(current);
+	}
+
+	/**
+	 * Draws the current sprite. A negative width draws it mirrored.
+	 *
+	 * @param g      The graphics context.
+	 * @param x      The x-coordinate to draw at.
+	 * @param y      The y-coordinate to draw at.
+	 * @param width  The width to draw it at.
+	 * @param height The height to draw it at.
+	 */
+	public void draw(Graphics g, int x, int y, int width, int height) {
+		TextureAtlas.draw(g, getCurrentSprite(), x, y, width, height);
 	}
 
 	/**
@@ -115,8 +128,8 @@ public class Animation {
 		return current;
 	}
 
-	public Image[] getImages() {
-		return images;
+	public int getFrameCount() {
+		return sheet.getFrameCount();
 	}
 
 	public int getDuration() {
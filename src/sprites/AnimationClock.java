@@ -0,0 +1,21 @@
+package sprites;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class AnimationClock {
+
+	private long ticks;
+
+	/**
+	 * Advances the clock by one game tick.
+	 */
+	public void tick() {
+		ticks++;
+	}
+
+	public long getTicks() {
+		return ticks;
+	}
+}
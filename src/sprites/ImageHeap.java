@@ -0,0 +1,105 @@
+package sprites;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.IndexColorModel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public final class ImageHeap {
+
+	/* Keeps count of how much memory decoded art takes. Sheets only live until they are copied into the atlas. */
+	private final static Map<BufferedImage, Boolean> DECODED = Collections.synchronizedMap(new WeakHashMap<>());
+	private final static AtomicLong DECODED_BYTES = new AtomicLong();
+	private final static AtomicInteger DECODED_IMAGES = new AtomicInteger();
+
+	private ImageHeap() {}
+
+	/**
+	 * Records an image that was decoded from the resource folder.
+	 *
+	 * @param image The decoded image.
+	 */
+	public static void track(BufferedImage image) {
+		if(image == null)return;
+		DECODED.put(image, Boolean.TRUE);
+		DECODED_BYTES.addAndGet(getBytes(image));
+		DECODED_IMAGES.incrementAndGet();
+	}
+
+	/**
+	 * @param image The image.
+	 * @return The bytes its pixels and palette take in memory.
+	 */
+	public static long getBytes(BufferedImage image) {
+		DataBuffer buffer = image.getRaster().getDataBuffer();
+		long bytes = (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+		if(image.getColorModel() instanceof IndexColorModel model)
+			bytes += model.getMapSize() * 4L;
+		return bytes;
+	}
+
+	/**
+	 * @param image The image.
+	 * @return The bytes it would take as a 32-bit ARGB image.
+	 */
+	public static long getArgbBytes(BufferedImage image) {
+		return (long) image.getWidth() * image.getHeight() * 4;
+	}
+
+	/**
+	 * Sums up the memory a group of images that stay in memory takes,
+	 * next to what it would take if they were 32-bit ARGB images.
+	 *
+	 * @param name   What the images are.
+	 * @param images The images.
+	 * @return One line of the report.
+	 */
+	public static String describe(String name, Collection<BufferedImage> images) {
+		long bytes = 0, argb = 0;
+		for(BufferedImage image : images) {
+			bytes += getBytes(image);
+			argb += getArgbBytes(image);
+		}
+		return String.format("    %s: %d images, %s, %s as ARGB (%.1fx smaller)%n", name, images.size(), kb(bytes), kb(argb), ratio(argb, bytes));
+	}
+
+	/**
+	 * Lists the memory taken by everything decoded so far, by what
+	 * is still held, and by the atlas pages the art is drawn from.
+	 * Once the art is in the atlas, its pages are what stays resident.
+	 *
+	 * @return The report, one line per kind of image.
+	 */
+	public static String report() {
+		List<BufferedImage> live;
+		synchronized(DECODED) {
+			live = new ArrayList<>(DECODED.keySet());
+		}
+		long liveBytes = 0;
+		for(BufferedImage image : live)
+			liveBytes += getBytes(image);
+
+		return String.format("--> Decoded art: %d images, %s in total%n", DECODED_IMAGES.get(), kb(DECODED_BYTES.get())) +
+				String.format("    Still held: %d images, %s%n", live.size(), kb(liveBytes)) +
+				String.format("    Atlas pages: %d, %s%n", TextureAtlas.getPageCount(), kb(TextureAtlas.getPageBytes()));
+	}
+
+	private static String kb(long bytes) {
+		return String.format("%.1fKB", bytes / 1024.0);
+	}
+
+	private static double ratio(long a, long b) {
+		return b == 0 ? 1 : (double) a / b;
+	}
+}
@@ -0,0 +1,70 @@
+package sprites;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.IndexColorModel;
+import java.util.Arrays;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public final class Palette {
+
+	/* Pixel art only uses a handful of colours, so one byte per pixel is plenty to store it. */
+	public final static int MAX_COLOURS = 256;
+
+	private Palette() {}
+
+	/**
+	 * Stores an image as 8-bit indices into a palette of its own
+	 * colours. It is expanded to full colour only when drawn or copied.
+	 *
+	 * @param image The decoded image, may be null.
+	 * @return The indexed image, or the image itself if it
+	 * already is indexed or uses too many colours.
+	 */
+	public static BufferedImage toIndexed(BufferedImage image) {
+		if(image == null || image.getColorModel() instanceof IndexColorModel)return image;
+		final int WIDTH = image.getWidth();
+		final int HEIGHT = image.getHeight();
+		int[] pixels = image.getRGB(0, 0, WIDTH, HEIGHT, null, 0, WIDTH);
+
+		// Open addressing on the colour itself, twice as many slots as colours allowed
+		int[] slots = new int[MAX_COLOURS * 2];
+		int[] slotIndex = new int[MAX_COLOURS * 2];
+		Arrays.fill(slotIndex, -1);
+		int[] colours = new int[MAX_COLOURS];
+		int count = 0;
+
+		byte[] data = new byte[pixels.length];
+		for(int i = 0; i < pixels.length; i++) {
+			int argb = pixels[i];
+			if((argb >>> 24) == 0) argb = 0; /* every fully transparent pixel is the same colour */
+			int slot = (argb * 0x9E3779B9) >>> 23;
+			while(slotIndex[slot] != -1 && slots[slot] != argb)
+				slot = (slot + 1) & (slots.length - 1);
+			if(slotIndex[slot] == -1) {
+				if(count == MAX_COLOURS)return image;
+				slots[slot] = argb;
+				slotIndex[slot] = count;
+				colours[count++] = argb;
+			}
+			data[i] = (byte) slotIndex[slot];
+		}
+
+		IndexColorModel model = new IndexColorModel(8, count, colours, 0, true, -1, DataBuffer.TYPE_BYTE);
+		BufferedImage indexed = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_BYTE_INDEXED, model);
+		indexed.getRaster().setDataElements(0, 0, WIDTH, HEIGHT, data);
+		return indexed;
+	}
+
+	/**
+	 * @param image The image, may be null.
+	 * @return The number of colours in its palette, or 0 if it has none.
+	 */
+	public static int getColourCount(BufferedImage image) {
+		if(image == null || !(image.getColorModel() instanceof IndexColorModel model))return 0;
+		return model.getMapSize();
+	}
+}
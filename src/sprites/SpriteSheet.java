@@ -0,0 +1,57 @@
+package sprites;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class SpriteSheet {
+
+	private final int[] frames;
+	private final int size;
+
+	/**
+	 * Cuts a horizontal strip of square frames out of a sprite and places
+	 * them in the {@link TextureAtlas}, enlarged to the size they are drawn
+	 * at and with mirrored copies for entities facing left.
+	 *
+	 * @param sprite The decoded sprite, may be null if it could not be loaded.
+	 * @param size   The width and height of each frame.
+	 */
+	public SpriteSheet(BufferedImage sprite, int size) {
+		this.size = size;
+		if(sprite == null || size <= 0) {
+			frames = null;
+			return;
+		}
+
+		final int WIDTH = sprite.getWidth() / size;
+		frames = new int[WIDTH];
+		for(int i = 0; i < WIDTH; i++)
+			frames[i] = TextureAtlas.add(sprite, i * size, 0, size, size, TextureAtlas.SPRITE_SCALE, true);
+	}
+
+	/**
+	 * @param index The index of the frame.
+	 * @return The atlas id of the frame at that index.
+	 */
+	public int getFrame(int index) {
+		return frames[index];
+	}
+
+	/**
+	 * @return The number of frames, or 0 if the sprite did not load.
+	 */
+	public int getFrameCount() {
+		return frames == null ? 0 : frames.length;
+	}
+
+	public boolean isLoaded() {
+		return frames != null;
+	}
+
+	public int getSize() {
+		return size;
+	}
+}
@@ -0,0 +1,37 @@
+package sprites;
+
+import game.Game;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public final class SpriteSheets {
+
+	private static final Map<String, SpriteSheet> SHEETS = new ConcurrentHashMap<>();
+
+	private SpriteSheets() {}
+
+	/**
+	 * Obtain the frames of a sprite sheet. Each sheet is decoded once and then
+	 * shared by everything that uses it, so spawning more entities or matter
+	 * never decodes the same image twice.
+	 *
+	 * @param path The path starting from the res folder.
+	 * @param size The width and height of each frame.
+	 * @return The shared sprite sheet.
+	 */
+	public static SpriteSheet get(String path, int size) {
+		return SHEETS.computeIfAbsent(path + "@" + size, key -> new SpriteSheet(Game.loadSprite(path), size));
+	}
+
+	/**
+	 * @return The number of sheets that have been decoded.
+	 */
+	public static int size() {
+		return SHEETS.size();
+	}
+}
@@ -0,0 +1,328 @@
+package sprites;
+
+import game.Game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public final class TextureAtlas {
+
+	/* Sprites are copied onto a few large pages and drawn by id, so a frame switches surfaces far less often. */
+	public final static int PAGE_SIZE = 1024;
+	public final static int NONE = -1;
+	public final static int SPRITE_SCALE = Game.NATIVE_RENDERING ? 1 : (int) Game.SCALE; /* world sprites are stored at the size they are drawn */
+	private final static int PADDING = 1; /* empty pixels around each sprite, so scaling never samples a neighbour */
+	private final static int STRIDE = 8;  /* page, x, y, width, height, mirrored x, source width, source height */
+
+	private static volatile BufferedImage[] pages = new BufferedImage[0];
+	private static volatile int[] regions = new int[0];
+	private static int count;
+	private static final List<Integer> FREE = new ArrayList<>();
+
+	// Shelf being filled on the last page
+	private static int shelfX, shelfY, shelfHeight;
+	private static int openPage = NONE;
+
+	// Copies made away from the thread that draws are held until that thread is between frames
+	private static volatile Thread drawThread;
+	private static final List<Runnable> PENDING = new ArrayList<>();
+	private static long queued, copied;
+
+	private TextureAtlas() {}
+
+	/**
+	 * Copies part of an image into the atlas at its own size.
+	 *
+	 * @param source The image to copy from, may be null.
+	 * @param x      The left edge within the image.
+	 * @param y      The top edge within the image.
+	 * @param width  The width of the sprite.
+	 * @param height The height of the sprite.
+	 * @return The id of the sprite, or {@link #NONE} if the image is missing.
+	 */
+	public static int add(BufferedImage source, int x, int y, int width, int height) {
+		return add(source, x, y, width, height, 1, false);
+	}
+
+	/**
+	 * Copies part of an image into the atlas. The sprite is enlarged
+	 * once here, so drawing it at that size is a plain copy, and can
+	 * keep a mirrored copy next to it, so it never has to be flipped
+	 * while drawing. Off the thread that draws, the id is handed out
+	 * straight away but the pixels are only copied at the next {@link #flush()}.
+	 *
+	 * @param source   The image to copy from, may be null.
+	 * @param x        The left edge within the image.
+	 * @param y        The top edge within the image.
+	 * @param width    The width of the sprite.
+	 * @param height   The height of the sprite.
+	 * @param scale    How many times larger to store the sprite.
+	 * @param mirrored Should a horizontally flipped copy be stored as well?
+	 * @return The id of the sprite, or {@link #NONE} if the image is missing.
+	 */
+	public static synchronized int add(BufferedImage source, int x, int y, int width, int height, int scale, boolean mirrored) {
+		if(source == null || width <= 0 || height <= 0 || scale <= 0)return NONE;
+		final int W = width * scale;
+		final int H = height * scale;
+		int id = reuse(W, H, mirrored);
+		if(id == NONE) id = allocate(W, H, mirrored);
+
+		int[] r = regions;
+		int o = id * STRIDE;
+		r[o + 6] = width;
+		r[o + 7] = height;
+		final int ID = id;
+		if(drawThread == null || Thread.currentThread() == drawThread) copy(source, x, y, width, height, ID);
+		else {
+			PENDING.add(() -> copy(source, x, y, width, height, ID));
+			queued++;
+		}
+		return id;
+	}
+
+	/**
+	 * Sets the thread that draws from the atlas. From then on, sprites added
+	 * on any other thread are only copied onto their page by {@link #flush()},
+	 * so a page is never written to while it is being drawn.
+	 *
+	 * @param thread The thread, or null to copy straight away on any thread.
+	 */
+	public static synchronized void setDrawThread(Thread thread) {
+		drawThread = thread;
+	}
+
+	/**
+	 * Copies the sprites added on other threads onto their pages.
+	 * Does nothing unless called on the thread that draws.
+	 */
+	public static synchronized void flush() {
+		if(PENDING.isEmpty() || Thread.currentThread() != drawThread)return;
+		for(Runnable job : PENDING) job.run();
+		copied += PENDING.size();
+		PENDING.clear();
+		TextureAtlas.class.notifyAll();
+	}
+
+	/**
+	 * Waits until every sprite added so far has been copied onto its page,
+	 * for work that reads the pixels back, such as baking tiles.
+	 */
+	public static synchronized void awaitPending() {
+		if(Thread.currentThread() == drawThread) {
+			flush();
+			return;
+		}
+		final long TARGET = queued;
+		while(copied < TARGET && drawThread != null) {
+			try {
+				TextureAtlas.class.wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Copies a whole image into the atlas.
+	 *
+	 * @param source The image, may be null.
+	 * @return The id of the sprite, or {@link #NONE} if the image is missing.
+	 */
+	public static int add(BufferedImage source) {
+		if(source == null)return NONE;
+		return add(source, 0, 0, source.getWidth(), source.getHeight());
+	}
+
+	/**
+	 * Cuts an image into equally sized cells and copies each into the atlas.
+	 *
+	 * @param source The image, may be null.
+	 * @param width  The width of each cell.
+	 * @param height The height of each cell.
+	 * @param scale  How many times larger to store the cells.
+	 * @return The ids of the cells, row by row, or none if the image is missing.
+	 */
+	public static int[] addGrid(BufferedImage source, int width, int height, int scale) {
+		if(source == null || width <= 0 || height <= 0)return new int[0];
+		final int COLUMNS = source.getWidth() / width;
+		final int ROWS = source.getHeight() / height;
+
+		int[] ids = new int[COLUMNS * ROWS];
+		for(int h = 0; h < ROWS; h++)
+			for(int w = 0; w < COLUMNS; w++)
+				ids[h * COLUMNS + w] = add(source, w * width, h * height, width, height, scale, false);
+		return ids;
+	}
+
+	/**
+	 * Gives sprites back to the atlas. Their space is used
+	 * again by the next sprites of the same size.
+	 *
+	 * @param ids The ids of the sprites.
+	 */
+	public static synchronized void release(int... ids) {
+		for(int id : ids)
+			if(id != NONE && !FREE.contains(id)) FREE.add(id);
+	}
+
+	/**
+	 * Draws a sprite, scaled to the given size. A negative width draws
+	 * it mirrored, like {@link Graphics#drawImage}, using the stored
+	 * mirrored copy when there is one. At the size the sprite was stored
+	 * at this is an unscaled copy from the page.
+	 *
+	 * @param g      The graphics context.
+	 * @param id     The id of the sprite.
+	 * @param x      The x-coordinate to draw at.
+	 * @param y      The y-coordinate to draw at.
+	 * @param width  The width to draw it at.
+	 * @param height The height to draw it at.
+	 */
+	public static void draw(Graphics g, int id, int x, int y, int width, int height) {
+		if(id < 0)return;
+		int[] r = regions;
+		int o = id * STRIDE;
+		int sx = r[o + 1], sy = r[o + 2];
+		if(width < 0 && r[o + 5] != NONE) {
+			sx = r[o + 5];
+			x += width;
+			width = -width;
+		}
+		g.drawImage(pages[r[o]], x, y, x + width, y + height, sx, sy, sx + r[o + 3], sy + r[o + 4], null);
+	}
+
+	/**
+	 * @param id The id of the sprite.
+	 * @return The width of the sprite in pixels, before it was enlarged.
+	 */
+	public static int getWidth(int id) {
+		return id < 0 ? 0 : regions[id * STRIDE + 6];
+	}
+
+	/**
+	 * @param id The id of the sprite.
+	 * @return The height of the sprite in pixels, before it was enlarged.
+	 */
+	public static int getHeight(int id) {
+		return id < 0 ? 0 : regions[id * STRIDE + 7];
+	}
+
+	/**
+	 * @return The number of pages sprites are spread across.
+	 */
+	public static int getPageCount() {
+		return pages.length;
+	}
+
+	/**
+	 * @return The bytes all pages take in memory.
+	 */
+	public static long getPageBytes() {
+		long bytes = 0;
+		for(BufferedImage page : pages)
+			bytes += ImageHeap.getBytes(page);
+		return bytes;
+	}
+
+	/**
+	 * @return The number of sprites held, including freed ones.
+	 */
+	public static synchronized int getSpriteCount() {
+		return count;
+	}
+
+	/**
+	 * Copies part of an image onto the space allocated for a sprite,
+	 * enlarged to the size it is stored at.
+	 */
+	private static void copy(BufferedImage source, int x, int y, int width, int height, int id) {
+		int[] r = regions;
+		int o = id * STRIDE;
+		int px = r[o + 1], py = r[o + 2], W = r[o + 3], H = r[o + 4], mx = r[o + 5];
+		Graphics2D g = pages[r[o]].createGraphics();
+		g.setComposite(AlphaComposite.Src); /* replaces whatever was there, including freed sprites */
+		g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+		g.drawImage(source, px, py, px + W, py + H, x, y, x + width, y + height, null);
+		if(mx != NONE) g.drawImage(source, mx + W, py, mx, py + H, x, y, x + width, y + height, null);
+		g.dispose();
+		regions = r; /* publishes the copy to threads that draw */
+	}
+
+	/**
+	 * Takes a freed sprite of exactly the same size and layout.
+	 *
+	 * @return The id of the freed sprite, or {@link #NONE} if there is none.
+	 */
+	private static int reuse(int width, int height, boolean mirrored) {
+		int[] r = regions;
+		for(int i = 0; i < FREE.size(); i++) {
+			int o = FREE.get(i) * STRIDE;
+			if(r[o + 3] == width && r[o + 4] == height && (r[o + 5] != NONE) == mirrored) {
+				int id = FREE.get(i);
+				FREE.remove(i);
+				return id;
+			}
+		}
+		return NONE;
+	}
+
+	/**
+	 * Finds room for a new sprite. Sprites are placed left to right
+	 * along shelves, a new shelf is started below when one is full and
+	 * a new page when the page is. Sprites too large for a page get a
+	 * page of their own. A mirrored copy sits right of the sprite.
+	 *
+	 * @return The id of the new sprite.
+	 */
+	private static int allocate(int width, int height, boolean mirrored) {
+		final int W = (width + PADDING * 2) * (mirrored ? 2 : 1);
+		final int H = height + PADDING * 2;
+		int page, x, y;
+
+		if(W > PAGE_SIZE || H > PAGE_SIZE) {
+			page = addPage(W, H);
+			x = y = PADDING;
+		} else {
+			if(openPage != NONE && shelfX + W > PAGE_SIZE) {
+				shelfY += shelfHeight;
+				shelfX = shelfHeight = 0;
+			}
+			if(openPage == NONE || shelfY + H > PAGE_SIZE) {
+				openPage = addPage(PAGE_SIZE, PAGE_SIZE);
+				shelfX = shelfY = shelfHeight = 0;
+			}
+			page = openPage;
+			x = shelfX + PADDING;
+			y = shelfY + PADDING;
+			shelfX += W;
+			shelfHeight = Math.max(shelfHeight, H);
+		}
+
+		int id = count++;
+		int[] r = regions.length < count * STRIDE ? Arrays.copyOf(regions, Math.max(64, count * 2) * STRIDE) : regions;
+		int o = id * STRIDE;
+		r[o] = page;
+		r[o + 1] = x;
+		r[o + 2] = y;
+		r[o + 3] = width;
+		r[o + 4] = height;
+		r[o + 5] = mirrored ? x + width + PADDING * 2 : NONE;
+		regions = r;
+		return id;
+	}
+
+	private static int addPage(int width, int height) {
+		BufferedImage[] p = Arrays.copyOf(pages, pages.length + 1);
+		p[p.length - 1] = Game.createCompatibleImage(width, height);
+		pages = p;
+		return p.length - 1;
+	}
+}
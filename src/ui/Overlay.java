@@ -3,11 +3,11 @@ package ui;
 import game.Game;
 import game.states.Playing;
 import sounds.Sound;
+import sprites.TextureAtlas;
 import ui.buttons.VolumeButton;
 
 import java.awt.*;
 import java.awt.event.MouseEvent;
-import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -18,7 +18,7 @@ import java.util.List;
 public abstract class Overlay {
 
 	protected final Playing playing;
-	private BufferedImage img;
+	private int img = TextureAtlas.NONE;
 	protected int x, y, w, h;
 	private final boolean centerDisplay;
 
@@ -62,7 +62,7 @@ public abstract class Overlay {
 
 	public void draw(Graphics g) {
 		if(isActive()) {
-			g.drawImage(img, x, y, w, h, null);
+			TextureAtlas.draw(g, img, x, y, w, h);
 			buttons.forEach(b -> b.draw(g));
 		}
 	}
@@ -89,10 +89,10 @@ public abstract class Overlay {
 	 * @param fileName The name of the image file.
 	 */
 	private void load(String fileName) {
-		img = Game.loadSprite("ui/" + fileName + ".png");
-		if(img == null) return;
-		w = (int) (img.getWidth()  * Game.SCALE) / 2;
-		h = (int) (img.getHeight() * Game.SCALE) / 2;
+		img = TextureAtlas.add(Game.loadSprite("ui/" + fileName + ".png"));
+		if(img == TextureAtlas.NONE) return;
+		w = (int) (TextureAtlas.getWidth(img)  * Game.SCALE) / 2;
+		h = (int) (TextureAtlas.getHeight(img) * Game.SCALE) / 2;
 		y = (int) (y * Game.SCALE);
 		if(centerDisplay) x = (Game.GAME_WIDTH / 2) - (w / 2);
 	}
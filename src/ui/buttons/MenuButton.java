@@ -2,6 +2,7 @@ package ui.buttons;
 
 import game.Game;
 import game.GameState;
+import sprites.TextureAtlas;
 import ui.Button;
 
 import java.awt.*;
@@ -15,7 +16,7 @@ public class MenuButton extends Button {
 
 	private final int rowIndex;
 	private final GameState state;
-	private BufferedImage[] sprites;
+	private int[] sprites; /* atlas ids */
 
 	// Dimensions
 	private static final int DEFAULT_WIDTH = 140;
@@ -35,17 +36,16 @@ public class MenuButton extends Button {
 	 * Loads all menu buttons from its sprite sheet.
 	 */
 	private void loadSprites() {
-		sprites = new BufferedImage[3];
+		sprites = new int[3];
 		BufferedImage sheet = Game.loadSprite("ui/menu_buttons.png");
-		if(sheet == null) return;
 		for (int i = 0; i < sprites.length; i++)
-			sprites[i] = sheet.getSubimage(i * DEFAULT_WIDTH, rowIndex * DEFAULT_HEIGHT,
+			sprites[i] = TextureAtlas.add(sheet, i * DEFAULT_WIDTH, rowIndex * DEFAULT_HEIGHT,
 					DEFAULT_WIDTH, DEFAULT_HEIGHT);
 	}
 
 	@Override
 	public void draw(Graphics g) {
-		g.drawImage(sprites[currentIndex], (int) x, (int) y, WIDTH, HEIGHT, null);
+		TextureAtlas.draw(g, sprites[currentIndex], (int) x, (int) y, WIDTH, HEIGHT);
 	}
 
 	/**
@@ -1,6 +1,7 @@
 package ui.buttons;
 
 import game.Game;
+import sprites.TextureAtlas;
 import ui.Button;
 
 import java.awt.*;
@@ -12,7 +13,7 @@ import java.awt.image.BufferedImage;
  **/
 public class SoundButton extends Button {
 
-	private BufferedImage[][] buttonImgs;
+	private int[][] buttonImgs; /* atlas ids */
 	private boolean muted;
 	private int rowIndex;
 	private final boolean music;
@@ -32,11 +33,10 @@ public class SoundButton extends Button {
 	 */
 	private void loadButtonImgs() {
 		BufferedImage sheet = Game.loadSprite("ui/sound_buttons.png");
-		if(sheet == null) return;
-		buttonImgs = new BufferedImage[2][3];
+		buttonImgs = new int[2][3];
 		for(int h = 0; h < buttonImgs.length; h++) {
 			for(int w = 0; w < buttonImgs[h].length; w++) {
-				buttonImgs[h][w] = sheet.getSubimage(w * DEFAULT_SIZE, h * DEFAULT_SIZE, DEFAULT_SIZE, DEFAULT_SIZE);
+				buttonImgs[h][w] = TextureAtlas.add(sheet, w * DEFAULT_SIZE, h * DEFAULT_SIZE, DEFAULT_SIZE, DEFAULT_SIZE);
 			}
 		}
 	}
@@ -53,7 +53,7 @@ public class SoundButton extends Button {
 	}
 
 	public void draw(Graphics g) {
-		g.drawImage(buttonImgs[rowIndex][currentIndex], (int) x, (int) y, (int) w, (int) h, null);
+		TextureAtlas.draw(g, buttonImgs[rowIndex][currentIndex], (int) x, (int) y, (int) w, (int) h);
 	}
 
 	public boolean isMuted() {
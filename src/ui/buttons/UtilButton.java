@@ -1,6 +1,7 @@
 package ui.buttons;
 
 import game.Game;
+import sprites.TextureAtlas;
 import ui.Button;
 
 import java.awt.*;
@@ -12,7 +13,7 @@ import java.awt.image.BufferedImage;
  **/
 public class UtilButton extends Button {
 
-	private BufferedImage[] buttons;
+	private int[] buttons; /* atlas ids */
 	private final Type type;
 	private int currentIndex;
 
@@ -35,10 +36,9 @@ public class UtilButton extends Button {
 	 */
 	private void loadButtons() {
 		BufferedImage sheet = Game.loadSprite("ui/util_buttons.png");
-		if(sheet == null) return;
-		buttons = new BufferedImage[3];
+		buttons = new int[3];
 		for(int i = 0; i < buttons.length; i++) {
-			buttons[i] = sheet.getSubimage(i * DEFAULT_SIZE, type.getRowIndex() * DEFAULT_SIZE, DEFAULT_SIZE, DEFAULT_SIZE);
+			buttons[i] = TextureAtlas.add(sheet, i * DEFAULT_SIZE, type.getRowIndex() * DEFAULT_SIZE, DEFAULT_SIZE, DEFAULT_SIZE);
 		}
 	}
 
@@ -57,7 +57,7 @@ public class UtilButton extends Button {
 
 	@Override
 	public void draw(Graphics g) {
-		g.drawImage(buttons[currentIndex], (int) x, (int) y, SIZE, SIZE, null);
+		TextureAtlas.draw(g, buttons[currentIndex], (int) x, (int) y, SIZE, SIZE);
 	}
 
 	public Type getType() {
@@ -1,6 +1,7 @@
 package ui.buttons;
 
 import game.Game;
+import sprites.TextureAtlas;
 import ui.Button;
 
 import java.awt.*;
@@ -12,8 +13,8 @@ import java.awt.image.BufferedImage;
  **/
 public class VolumeButton extends Button {
 
-	private BufferedImage[] buttons;
-	private BufferedImage slider;
+	private int[] buttons; /* atlas ids */
+	private int slider;
 	private int bX;
 	private final int minX, maxX, sX;
 	private float value = 1f;
@@ -43,11 +44,10 @@ public class VolumeButton extends Button {
 	 */
 	private void loadSprites() {
 		BufferedImage sheet = Game.loadSprite("ui/volume_buttons.png");
-		if(sheet == null) return;
-		buttons = new BufferedImage[3];
+		buttons = new int[3];
 		for(int i = 0; i < buttons.length; i++)
-			buttons[i] = sheet.getSubimage(i * DEFAULT_BUTTON_WIDTH, 0, DEFAULT_BUTTON_WIDTH, DEFAULT_BUTTON_HEIGHT);
-		slider = sheet.getSubimage(buttons.length * DEFAULT_BUTTON_WIDTH, 0, DEFAULT_SLIDER_WIDTH, DEFAULT_BUTTON_HEIGHT);
+			buttons[i] = TextureAtlas.add(sheet, i * DEFAULT_BUTTON_WIDTH, 0, DEFAULT_BUTTON_WIDTH, DEFAULT_BUTTON_HEIGHT);
+		slider = TextureAtlas.add(sheet, buttons.length * DEFAULT_BUTTON_WIDTH, 0, DEFAULT_SLIDER_WIDTH, DEFAULT_BUTTON_HEIGHT);
 	}
 
 	/**
@@ -73,7 +73,7 @@ public class VolumeButton extends Button {
 
 	@Override
 	public void draw(Graphics g) {
-		g.drawImage(slider, sX, (int) y, SLIDER_WIDTH, (int) h, null);
-		g.drawImage(buttons[currentIndex], bX - (int) w / 2, (int) y, (int) w, (int) h, null);
+		TextureAtlas.draw(g, slider, sX, (int) y, SLIDER_WIDTH, (int) h);
+		TextureAtlas.draw(g, buttons[currentIndex], bX - (int) w / 2, (int) y, (int) w, (int) h);
 	}
 }
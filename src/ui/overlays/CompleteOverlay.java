@@ -51,8 +51,10 @@ public class CompleteOverlay extends Overlay {
 	 * within the LevelManager and transitions the game's state to the main menu.
 	 */
 	private void handleHomeButton() {
-		lm.getCurrentLevel().reset();
-		playing.setState(GameState.MENU);
+		playing.requestLevelChange(() -> {
+			lm.getCurrentLevel().reset();
+			playing.setState(GameState.MENU);
+		});
 	}
 
 	/**
@@ -63,17 +65,21 @@ public class CompleteOverlay extends Overlay {
 	 *   to the spawn point of the first level, and transitions the game state to the main menu.
 	 * - If the current level is not the last, it progresses to the next level, teleports the
 	 *   player to the spawn point of the new level, and resets the current level.
+	 *
+	 * The level is swapped by the game loop, see {@link Playing#requestLevelChange(Runnable)}.
 	 */
 	private void handleStartButton() {
-		Player player = playing.getPlayer();
-		player.reset();
+		playing.requestLevelChange(() -> {
+			Player player = playing.getPlayer();
+			player.reset();
 
-		if(lm.isLastLevel()) {
-			lm.backToFirst();
-			playing.setState(GameState.MENU);
-		} else lm.nextLevel();
+			if(lm.isLastLevel()) {
+				lm.backToFirst();
+				playing.setState(GameState.MENU);
+			} else lm.nextLevel();
 
-		player.teleport(lm.getCurrentLevel().getSpawn());
-		lm.getCurrentLevel().reset();
+			player.teleport(lm.getCurrentLevel().getSpawn());
+			lm.getCurrentLevel().reset();
+		});
 	}
 }
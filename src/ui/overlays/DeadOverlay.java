@@ -36,9 +36,11 @@ public class DeadOverlay extends Overlay {
 		if(!(button instanceof UtilButton ub))return;
 		playing.getSoundManager().stopSFX(Sound.GAME_OVER);
 		if(ub.getType().equals(UtilButton.Type.HOME)) {
-			playing.getLevelManager().getCurrentLevel().reset();
-			playing.setState(GameState.MENU);
+			playing.requestLevelChange(() -> {
+				playing.getLevelManager().getCurrentLevel().reset();
+				playing.setState(GameState.MENU);
+			});
 		} else if(ub.getType().equals(UtilButton.Type.START))
-			playing.getLevelManager().getCurrentLevel().reset();
+			playing.requestLevelChange(() -> playing.getLevelManager().getCurrentLevel().reset());
 	}
 }
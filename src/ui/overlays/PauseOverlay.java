@@ -73,11 +73,15 @@ public class PauseOverlay extends Overlay {
 			else             playing.getGame().getSoundManager().toggleSFXMute();
 		} else if(button instanceof UtilButton ub) {
 			if(ub.getType().equals(UtilButton.Type.HOME)) {
-				playing.getLevelManager().getCurrentLevel().reset();
-				playing.setState(GameState.MENU);
+				playing.requestLevelChange(() -> {
+					playing.getLevelManager().getCurrentLevel().reset();
+					playing.setState(GameState.MENU);
+				});
 			} else if(ub.getType().equals(UtilButton.Type.REPLAY)) {
-				playing.getLevelManager().getCurrentLevel().reset();
-				playing.togglePause();
+				playing.requestLevelChange(() -> {
+					playing.getLevelManager().getCurrentLevel().reset();
+					playing.togglePause();
+				});
 			} else if(ub.getType().equals(UtilButton.Type.START))
 				playing.togglePause();
 		}
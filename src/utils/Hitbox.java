@@ -11,6 +11,7 @@ import java.awt.*;
 public class Hitbox {
 
 	protected double x, y;
+	protected double prevX, prevY;
 	protected final double w, h;
 	protected final double xDrawOffset, yDrawOffset;
 	protected boolean debug;
@@ -18,6 +19,8 @@ public class Hitbox {
 	public Hitbox(double x, double y, double w, double h, double xDrawOffset, double yDrawOffset) {
 		this.x = x;
 		this.y = y;
+		this.prevX = x;
+		this.prevY = y;
 		this.w = w;
 		this.h = h;
 		this.xDrawOffset = xDrawOffset * Game.SCALE;
@@ -86,6 +89,32 @@ public class Hitbox {
 	public void teleport(Location location) {
 		x = location.getX();
 		y = location.getY();
+		savePosition();
+	}
+
+	/**
+	 * Remembers the current position as the one rendered
+	 * frames will interpolate from until the next tick.
+	 */
+	public void savePosition() {
+		prevX = x;
+		prevY = y;
+	}
+
+	/**
+	 * @param alpha How far between the previous and current tick, from 0 to 1.
+	 * @return The x-coordinate to draw at.
+	 */
+	public double getRenderX(double alpha) {
+		return prevX + (x - prevX) * alpha;
+	}
+
+	/**
+	 * @param alpha How far between the previous and current tick, from 0 to 1.
+	 * @return The y-coordinate to draw at.
+	 */
+	public double getRenderY(double alpha) {
+		return prevY + (y - prevY) * alpha;
 	}
 
 	public double getX() {
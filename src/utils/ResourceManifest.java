@@ -0,0 +1,111 @@
+package utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class ResourceManifest {
+
+	/* Every resource is listed once at build time, so nothing has to list directories at runtime. */
+	public final static String FILE_NAME = "manifest.txt";
+	private final static String HEADER = "# Generated by the 'manifest' tool, do not edit.";
+
+	private static ResourceManifest instance;
+
+	private final Set<String> paths;
+	private final Map<String, List<String>> directories;
+
+	private ResourceManifest(Collection<String> paths) {
+		this.paths = new HashSet<>(paths);
+		this.directories = new HashMap<>();
+		for(String path : paths) {
+			int slash = path.lastIndexOf('/');
+			String directory = slash < 0 ? "" : path.substring(0, slash);
+			directories.computeIfAbsent(directory, d -> new ArrayList<>()).add(path.substring(slash + 1));
+		}
+	}
+
+	/**
+	 * @return The manifest of the game's resources, read once on first use.
+	 */
+	public static synchronized ResourceManifest get() {
+		if(instance == null) instance = new ResourceManifest(read());
+		return instance;
+	}
+
+	/**
+	 * Lists the files directly within a resource directory.
+	 *
+	 * @param directory The directory starting from the res folder, such as "levels".
+	 * @return The names of the files, or an empty list if there are none.
+	 */
+	public List<String> list(String directory) {
+		return Collections.unmodifiableList(directories.getOrDefault(directory, Collections.emptyList()));
+	}
+
+	/**
+	 * @param path The path starting from the res folder.
+	 * @return True if the resource was listed when the manifest was generated.
+	 */
+	public boolean contains(String path) {
+		return paths.contains(path);
+	}
+
+	/**
+	 * Reads the manifest from the class path.
+	 *
+	 * @return The listed paths, or none if the manifest is missing.
+	 */
+	private static List<String> read() {
+		List<String> paths = new ArrayList<>();
+		try (InputStream input = ResourceManifest.class.getResourceAsStream("/" + FILE_NAME)) {
+			if(input == null) {
+				System.out.println("--> Resource manifest is missing, run the 'manifest' tool on the res folder.");
+				return paths;
+			}
+			BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+			String line;
+			while((line = reader.readLine()) != null) {
+				line = line.trim();
+				if(line.isEmpty() || line.startsWith("#"))continue;
+				paths.add(line);
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+		return paths;
+	}
+
+	/**
+	 * Lists every file within a resource folder and writes
+	 * the manifest into it, sorted so that it diffs cleanly.
+	 *
+	 * @param root The res folder.
+	 * @return The written manifest file.
+	 */
+	public static Path generate(Path root) throws IOException {
+		Path target = root.resolve(FILE_NAME);
+		List<String> lines = new ArrayList<>();
+		try (Stream<Path> files = Files.walk(root)) {
+			files.filter(Files::isRegularFile)
+					.filter(file -> !file.equals(target))
+					.map(file -> root.relativize(file).toString().replace(root.getFileSystem().getSeparator(), "/"))
+					.filter(path -> !path.startsWith(".") && !path.contains("/."))
+					.sorted()
+					.forEach(lines::add);
+		}
+		lines.add(0, HEADER);
+		Files.write(target, lines, StandardCharsets.UTF_8);
+		return target;
+	}
+}
@@ -0,0 +1,183 @@
+package utils;
+
+import game.Game;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Written by Nicholas Cercos
+ * Created on Oct 18 2026
+ **/
+public class SpatialGrid<T extends Hitbox> {
+
+	/* Levels are one screen tall, so objects are only bucketed by the tile column their left edge is in. */
+	private final List<T>[] cells;
+	private final List<T> all;
+	private final Map<T, Slot> slots; /* where each object is kept, by identity */
+	private double widest; /* how far an object can reach into the columns right of its own */
+
+	/**
+	 * @param columns The width of the level in tiles.
+	 */
+	@SuppressWarnings("unchecked")
+	public SpatialGrid(int columns) {
+		this.cells = (List<T>[]) new List<?>[Math.max(1, columns)];
+		this.all = new ArrayList<>();
+		this.slots = new IdentityHashMap<>();
+	}
+
+	/**
+	 * Adds an object to the column it is in.
+	 *
+	 * @param object The object, added once even if this is called again.
+	 * @return The object.
+	 */
+	public T add(T object) {
+		if(slots.containsKey(object))return object;
+		Slot slot = new Slot();
+		slot.index = all.size();
+		slots.put(object, slot);
+		all.add(object);
+		widest = Math.max(widest, object.getWidth());
+		insert(object, slot, getColumn(object.getX()));
+		return object;
+	}
+
+	/**
+	 * Removes an object from the grid. The last object takes its
+	 * place in the list of every object, so removing is constant time.
+	 *
+	 * @param object The object.
+	 * @return True if it was within the grid.
+	 */
+	public boolean remove(T object) {
+		Slot slot = slots.remove(object);
+		if(slot == null)return false;
+		T last = all.remove(all.size() - 1);
+		if(last != object) {
+			all.set(slot.index, last);
+			slots.get(last).index = slot.index;
+		}
+		cells[slot.cell].remove(object);
+		return true;
+	}
+
+	/**
+	 * Moves an object to the column it is in now.
+	 * Called after anything that may have moved it.
+	 *
+	 * @param object The object.
+	 */
+	public void move(T object) {
+		Slot slot = slots.get(object);
+		if(slot == null)return;
+		int column = getColumn(object.getX());
+		if(column == slot.cell)return;
+		cells[slot.cell].remove(object);
+		insert(object, slot, column);
+	}
+
+	/**
+	 * Finds every object that spans part of a horizontal range.
+	 * Only the columns the range covers are looked at.
+	 *
+	 * @param x0  The left edge of the range.
+	 * @param x1  The right edge of the range.
+	 * @param out The list to fill, it is cleared first.
+	 * @return The filled list, safe to change the grid while going through it.
+	 */
+	public List<T> query(double x0, double x1, List<T> out) {
+		out.clear();
+		final int FIRST = getColumn(x0 - widest);
+		final int LAST = getColumn(x1);
+		for(int c = FIRST; c <= LAST; c++) {
+			List<T> cell = cells[c];
+			if(cell == null)continue;
+			for(int i = 0; i < cell.size(); i++) {
+				T object = cell.get(i);
+				if(object.x <= x1 && object.x + object.w >= x0) out.add(object);
+			}
+		}
+		return out;
+	}
+
+	/**
+	 * Finds every object that overlaps an area.
+	 *
+	 * @param area The area, such as a hitbox or an attack box.
+	 * @param out  The list to fill, it is cleared first.
+	 * @return The filled list, safe to change the grid while going through it.
+	 */
+	public List<T> query(Hitbox area, List<T> out) {
+		query(area.x, area.x + area.w, out);
+		out.removeIf(object -> !area.overlaps(object));
+		return out;
+	}
+
+	/**
+	 * Removes every object that matches a condition.
+	 *
+	 * @param filter The condition, may move the object it is given.
+	 */
+	public void removeIf(Predicate<? super T> filter) {
+		int kept = 0;
+		for(int i = 0; i < all.size(); i++) {
+			T object = all.get(i);
+			if(filter.test(object)) {
+				cells[slots.remove(object).cell].remove(object);
+			} else {
+				slots.get(object).index = kept;
+				all.set(kept++, object);
+			}
+		}
+		all.subList(kept, all.size()).clear();
+	}
+
+	/**
+	 * Goes through every object, near or not.
+	 *
+	 * @param action The action to take on each object.
+	 */
+	public void forEach(Consumer<? super T> action) {
+		all.forEach(action);
+	}
+
+	/**
+	 * @return Every object, in no particular order.
+	 */
+	public List<T> getAll() {
+		return Collections.unmodifiableList(all);
+	}
+
+	public int size() {
+		return all.size();
+	}
+
+	private void insert(T object, Slot slot, int column) {
+		if(cells[column] == null) cells[column] = new ArrayList<>();
+		cells[column].add(object);
+		slot.cell = column;
+	}
+
+	/**
+	 * @return The column an x-position is in, kept within the level.
+	 */
+	private int getColumn(double x) {
+		int column = (int) Math.floor(x / Game.TILES_SIZE);
+		return Math.max(0, Math.min(cells.length - 1, column));
+	}
+
+	/**
+	 * Where an object is kept within this grid.
+	 */
+	private static class Slot {
+		int cell;  /* the column it is bucketed in */
+		int index; /* where it is in the list of every object */
+	}
+}